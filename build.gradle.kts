@@ -1,5 +1,6 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.openrewrite.recipe"
@@ -10,6 +11,8 @@ dependencies {
     implementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
 
     implementation("org.openrewrite:rewrite-java")
+    implementation("org.openrewrite:rewrite-gradle")
+    implementation("org.openrewrite:rewrite-maven")
     implementation("org.openrewrite:rewrite-properties")
     implementation("org.openrewrite:rewrite-yaml")
     implementation("org.openrewrite.recipe:rewrite-java-dependencies:$rewriteVersion")
@@ -23,10 +26,8 @@ dependencies {
         exclude("io.github.eisop","dataflow-errorprone")
     }
 
-    testImplementation("org.openrewrite:rewrite-gradle")
     testImplementation("org.openrewrite:rewrite-kotlin")
     testImplementation("org.openrewrite:rewrite-test")
-    testImplementation("org.openrewrite:rewrite-maven")
     testImplementation("org.openrewrite.gradle.tooling:model:${rewriteVersion}")
 
     testRuntimeOnly(gradleApi())
@@ -34,6 +35,20 @@ dependencies {
     testRuntimeOnly("org.codehaus.jackson:jackson-core-asl:latest.release")
     testRuntimeOnly("org.codehaus.jackson:jackson-mapper-asl:latest.release")
     testRuntimeOnly("org.codehaus.jackson:jackson-xc:latest.release")
+
+    jmhImplementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
+    jmhImplementation("org.openrewrite:rewrite-kotlin")
+    jmhRuntimeOnly("org.openrewrite:rewrite-java-21")
+}
+
+// Run with `./gradlew jmh`; narrow with e.g. `-Pjmh.includes=MigrateMapperSetters`.
+jmh {
+    benchmarkMode.add("thrpt")
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    (findProperty("jmh.includes") as String?)?.let { includes.add(it) }
 }
 
 recipeDependencies {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.kotlin.KotlinParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Generates Jackson 2 code bases of a given shape for the benchmarks: {@code classes} source files,
+ * each declaring {@code mappersPerClass} factory methods that construct a mapper and then call
+ * {@code settersPerMapper} setters on it, plus a {@code try}/{@code catch (IOException)} around a
+ * serialization call so the exception rewrites have work to do as well.
+ */
+final class SyntheticJacksonSources {
+
+    private static final String[] JAVA_SETTERS = {
+            "mapper.enable(SerializationFeature.INDENT_OUTPUT);",
+            "mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);",
+            "mapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);",
+            "mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);",
+            "mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);",
+            "mapper.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);",
+            "mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);",
+            "mapper.enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);"
+    };
+
+    private static final String IMPORTS =
+            "import com.fasterxml.jackson.annotation.JsonInclude%1$s\n" +
+            "import com.fasterxml.jackson.databind.DeserializationFeature%1$s\n" +
+            "import com.fasterxml.jackson.databind.MapperFeature%1$s\n" +
+            "import com.fasterxml.jackson.databind.ObjectMapper%1$s\n" +
+            "import com.fasterxml.jackson.databind.SerializationFeature%1$s\n" +
+            "import com.fasterxml.jackson.databind.json.JsonMapper%1$s\n" +
+            "import java.io.IOException%1$s\n";
+
+    private SyntheticJacksonSources() {
+    }
+
+    static List<SourceFile> java(ExecutionContext ctx, int classes, int mappersPerClass, int settersPerMapper) {
+        List<String> sources = new ArrayList<>(classes);
+        for (int c = 0; c < classes; c++) {
+            StringBuilder src = new StringBuilder("package com.example.gen;\n\n")
+                    .append(String.format(IMPORTS, ";"))
+                    .append("\npublic class Generated").append(c).append(" {\n");
+            for (int m = 0; m < mappersPerClass; m++) {
+                src.append("\n    JsonMapper mapper").append(m).append("() {\n")
+                        .append("        JsonMapper mapper = new JsonMapper();\n");
+                for (int s = 0; s < settersPerMapper; s++) {
+                    src.append("        ").append(JAVA_SETTERS[(m + s) % JAVA_SETTERS.length]).append('\n');
+                }
+                src.append("        return mapper;\n")
+                        .append("    }\n");
+            }
+            src.append("\n    String write(Object value) {\n")
+                    .append("        try {\n")
+                    .append("            return new ObjectMapper().writeValueAsString(value);\n")
+                    .append("        } catch (IOException e) {\n")
+                    .append("            throw new IllegalStateException(e);\n")
+                    .append("        }\n")
+                    .append("    }\n")
+                    .append("}\n");
+            sources.add(src.toString());
+        }
+        return JavaParser.fromJavaVersion()
+                .classpathFromResources(ctx, "jackson-annotations-2", "jackson-core-2", "jackson-databind-2")
+                .build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(toList());
+    }
+
+    static List<SourceFile> kotlin(ExecutionContext ctx, int classes, int mappersPerClass, int settersPerMapper) {
+        List<String> sources = new ArrayList<>(classes);
+        for (int c = 0; c < classes; c++) {
+            StringBuilder src = new StringBuilder("package com.example.gen\n\n")
+                    .append(String.format(IMPORTS, ""))
+                    .append("\nclass Generated").append(c).append(" {\n");
+            for (int m = 0; m < mappersPerClass; m++) {
+                src.append("\n    fun mapper").append(m).append("(): JsonMapper {\n")
+                        .append("        val mapper = JsonMapper()\n");
+                for (int s = 0; s < settersPerMapper; s++) {
+                    String setter = JAVA_SETTERS[(m + s) % JAVA_SETTERS.length];
+                    src.append("        ").append(setter, 0, setter.length() - 1).append('\n');
+                }
+                src.append("        return mapper\n")
+                        .append("    }\n");
+            }
+            src.append("\n    fun write(value: Any): String {\n")
+                    .append("        try {\n")
+                    .append("            return ObjectMapper().writeValueAsString(value)\n")
+                    .append("        } catch (e: IOException) {\n")
+                    .append("            throw IllegalStateException(e)\n")
+                    .append("        }\n")
+                    .append("    }\n")
+                    .append("}\n");
+            sources.add(src.toString());
+        }
+        return KotlinParser.builder()
+                .classpathFromResources(ctx, "jackson-annotations-2", "jackson-core-2", "jackson-databind-2")
+                .build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(toList());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the template classpath a recipe run starts with, for the resources the
+ * Jackson 3 templates are parsed against. {@code fromResources} resolves them from the type tables
+ * as every new execution context used to; {@code shared} goes through {@link JacksonClasspath}.
+ * The {@code gc} profiler configured in {@code build.gradle.kts} reports the allocation of each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TemplateClasspathBenchmark {
+
+    private static final String[] RESOURCES = {"jackson-annotations-2", "jackson-core-3", "jackson-databind-3"};
+
+    @Benchmark
+    public void fromResources(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        blackhole.consume(JavaParser.fromJavaVersion().classpathFromResources(ctx, RESOURCES));
+    }
+
+    @Benchmark
+    public void shared(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        blackhole.consume(JacksonClasspath.parser(ctx, RESOURCES));
+    }
+}
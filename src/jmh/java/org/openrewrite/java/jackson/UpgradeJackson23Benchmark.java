@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@code UpgradeJackson_2_3}, and the children that dominate its run time, over synthetic code
+ * bases of varying shape. Throughput is reported per run of the recipe over the whole code base;
+ * allocation rates come from the {@code gc} profiler configured in {@code build.gradle.kts}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class UpgradeJackson23Benchmark {
+
+    @Param({"50", "200"})
+    int classes;
+
+    @Param({"4"})
+    int mappersPerClass;
+
+    @Param({"1", "8"})
+    int settersPerMapper;
+
+    @Param({"java", "kotlin"})
+    String language;
+
+    @Param({
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3",
+            "org.openrewrite.java.jackson.MigrateMapperSettersToBuilder",
+            "org.openrewrite.java.jackson.IOExceptionToJacksonException",
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3_TypeChanges",
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3_PackageChanges"
+    })
+    String recipeName;
+
+    private Recipe recipe;
+    private List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        sourceFiles = "kotlin".equals(language) ?
+                SyntheticJacksonSources.kotlin(ctx, classes, mappersPerClass, settersPerMapper) :
+                SyntheticJacksonSources.java(ctx, classes, mappersPerClass, settersPerMapper);
+        recipe = Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.java.jackson")
+                .build()
+                .activateRecipes(recipeName);
+    }
+
+    @Benchmark
+    public void run(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        blackhole.consume(recipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx)
+                .getChangeset()
+                .getAllResults());
+    }
+}
@@ -23,9 +23,8 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Statement;
@@ -53,11 +52,13 @@ public class AddJsonCreatorToPrivateConstructors extends Recipe {
     @Getter
     final Set<String> tags = singleton("jackson-3");
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return JacksonRecipeMetrics.check(this, performance,
                 Preconditions.and(
-                        new UsesType<>(JACKSON_ANNOTATION_PACKAGE + ".*", false),
+                        JacksonUsageIndex.usesType(JACKSON_ANNOTATION_PACKAGE + ".*"),
                         Preconditions.not(new FindSourceFiles("**/*.kt").getVisitor())
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
@@ -102,11 +103,11 @@ public class AddJsonCreatorToPrivateConstructors extends Recipe {
                         // Add @JsonCreator
                         maybeAddImport(JACKSON_JSON_CREATOR);
 
+                        JacksonRecipeMetrics.templateBuilt();
                         return JavaTemplate
                                 .builder("@JsonCreator")
                                 .imports(JACKSON_JSON_CREATOR)
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "jackson-annotations-2"))
+                                .javaParser(JacksonClasspath.parser(ctx, "jackson-annotations-2"))
                                 .build()
                                 .apply(
                                         getCursor(),
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.dependencies.AddDependency;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class AddMissingJacksonDependencies extends ScanningRecipe<AddMissingJacksonDependencies.Accumulator> {
+
+    private static final String DATAFORMAT_GROUP = "com.fasterxml.jackson.dataformat";
+    private static final String DATAFORMAT_PACKAGE = DATAFORMAT_GROUP + ".";
+
+    /**
+     * The package segment after {@code com.fasterxml.jackson.dataformat} of each dataformat, which is also the
+     * suffix of its artifact ID, in the order the dependencies are added.
+     */
+    private static final List<String> DATAFORMATS = Arrays.asList(
+            "xml", "yaml", "csv", "cbor", "smile", "avro", "ion", "protobuf");
+
+    String displayName = "Add missing Jackson dataformat dependencies";
+
+    String description = "Adds Jackson dataformat dependencies when code uses types from their packages " +
+            "but the dependency is not declared. For example, adds `jackson-dataformat-xml` " +
+            "when code uses `XmlMapper`.";
+
+    Set<String> tags = singleton("jackson-2");
+
+    public static class Accumulator {
+        /**
+         * In the same order as the dataformats.
+         */
+        final List<DependencyToAdd<?>> dependencies = new ArrayList<>();
+
+        /**
+         * The dataformats used by the sources of each project.
+         */
+        final Map<JavaProject, BitSet> dataformatsByProject = new HashMap<>();
+
+        /**
+         * The dataformats used by sources that aren't part of a known project.
+         */
+        final BitSet unattributed = new BitSet();
+
+        synchronized void recordUsage(SourceFile sourceFile, BitSet used) {
+            Optional<JavaProject> project = sourceFile.getMarkers().findFirst(JavaProject.class);
+            if (project.isPresent()) {
+                dataformatsByProject.computeIfAbsent(project.get(), k -> new BitSet()).or(used);
+            } else {
+                unattributed.or(used);
+            }
+        }
+
+        BitSet dataformatsFor(SourceFile buildFile) {
+            BitSet dataformats = (BitSet) unattributed.clone();
+            Optional<JavaProject> project = buildFile.getMarkers().findFirst(JavaProject.class);
+            if (project.isPresent()) {
+                BitSet used = dataformatsByProject.get(project.get());
+                if (used != null) {
+                    dataformats.or(used);
+                }
+            } else {
+                dataformatsByProject.values().forEach(dataformats::or);
+            }
+            return dataformats;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        Accumulator acc = new Accumulator();
+        for (String dataformat : DATAFORMATS) {
+            acc.dependencies.add(DependencyToAdd.of(new AddDependency(
+                    DATAFORMAT_GROUP,
+                    "jackson-dataformat-" + dataformat,
+                    "2.x",
+                    null,
+                    DATAFORMAT_PACKAGE + dataformat + ".*",
+                    null, null, null, null, null, null, null, null, true), ctx));
+        }
+        return acc;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                if (!(tree instanceof JavaSourceFile) || isBuildScript(sourceFile)) {
+                    // Build files and anything else the dependency recipes may want to know about
+                    for (DependencyToAdd<?> dependency : acc.dependencies) {
+                        dependency.scan(sourceFile, ctx);
+                    }
+                    return tree;
+                }
+                BitSet used = dataformats((JavaSourceFile) tree);
+                if (used.isEmpty()) {
+                    return tree;
+                }
+                acc.recordUsage(sourceFile, used);
+                // Only the dependencies this source uses need to confirm the usage and record its source set
+                for (int i = used.nextSetBit(0); i >= 0; i = used.nextSetBit(i + 1)) {
+                    acc.dependencies.get(i).scan(sourceFile, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.unattributed.isEmpty() && acc.dataformatsByProject.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        List<TreeVisitor<?, ExecutionContext>> visitors = new ArrayList<>();
+        for (DependencyToAdd<?> dependency : acc.dependencies) {
+            visitors.add(dependency.visitor());
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || tree instanceof J.CompilationUnit) {
+                    return tree;
+                }
+                // Every missing dataformat of the build file's project is added in this one visit
+                BitSet dataformats = acc.dataformatsFor((SourceFile) tree);
+                Tree t = tree;
+                for (int i = dataformats.nextSetBit(0); i >= 0; i = dataformats.nextSetBit(i + 1)) {
+                    TreeVisitor<?, ExecutionContext> visitor = visitors.get(i);
+                    if (!visitor.isAcceptable((SourceFile) t, ctx)) {
+                        continue;
+                    }
+                    t = visitor.visit(t, ctx);
+                    if (t == null) {
+                        return null;
+                    }
+                }
+                return t;
+            }
+        };
+    }
+
+    private static boolean isBuildScript(SourceFile sourceFile) {
+        String fileName = sourceFile.getSourcePath().getFileName().toString();
+        return fileName.endsWith(".gradle") || fileName.endsWith(".gradle.kts");
+    }
+
+    /**
+     * The dataformats whose packages a source file uses types from, directly or as a supertype of a type it
+     * uses, in a single pass over its types in use.
+     */
+    private static BitSet dataformats(JavaSourceFile sourceFile) {
+        BitSet dataformats = new BitSet();
+        Set<String> seen = new HashSet<>();
+        Deque<JavaType.FullyQualified> types = new ArrayDeque<>();
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                types.add((JavaType.FullyQualified) type);
+            }
+        }
+        while (!types.isEmpty()) {
+            JavaType.FullyQualified type = types.poll();
+            if (!seen.add(type.getFullyQualifiedName())) {
+                continue;
+            }
+            bucket(type.getPackageName(), dataformats);
+            if (type.getSupertype() != null) {
+                types.add(type.getSupertype());
+            }
+            types.addAll(type.getInterfaces());
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            bucket(anImport.getPackageName(), dataformats);
+        }
+        return dataformats;
+    }
+
+    private static void bucket(String packageName, BitSet dataformats) {
+        if (!packageName.startsWith(DATAFORMAT_PACKAGE)) {
+            return;
+        }
+        int end = packageName.indexOf('.', DATAFORMAT_PACKAGE.length());
+        int dataformat = DATAFORMATS.indexOf(packageName.substring(DATAFORMAT_PACKAGE.length(),
+                end < 0 ? packageName.length() : end));
+        if (dataformat >= 0) {
+            dataformats.set(dataformat);
+        }
+    }
+
+    /**
+     * An {@link AddDependency} for one dataformat together with its accumulator, which this recipe scans and
+     * visits on its behalf.
+     */
+    static class DependencyToAdd<T> {
+        private final ScanningRecipe<T> recipe;
+        private final T acc;
+        private @Nullable TreeVisitor<?, ExecutionContext> scanner;
+
+        private DependencyToAdd(ScanningRecipe<T> recipe, T acc) {
+            this.recipe = recipe;
+            this.acc = acc;
+        }
+
+        static <T> DependencyToAdd<T> of(ScanningRecipe<T> recipe, ExecutionContext ctx) {
+            return new DependencyToAdd<>(recipe, recipe.getInitialValue(ctx));
+        }
+
+        /**
+         * Synchronized, as the accumulator of the {@link AddDependency} isn't safe to scan several source
+         * files into at once.
+         */
+        synchronized void scan(SourceFile sourceFile, ExecutionContext ctx) {
+            TreeVisitor<?, ExecutionContext> scanner = this.scanner;
+            if (scanner == null) {
+                scanner = recipe.getScanner(acc);
+                this.scanner = scanner;
+            }
+            if (scanner.isAcceptable(sourceFile, ctx)) {
+                scanner.visit(sourceFile, ctx);
+            }
+        }
+
+        TreeVisitor<?, ExecutionContext> visitor() {
+            return recipe.getVisitor(acc);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.config.CompositeRecipe;
+import org.openrewrite.config.DeclarativeRecipe;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
+import org.openrewrite.java.ChangeMethodName;
+import org.openrewrite.java.ChangePackage;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.ReplaceConstantWithAnotherConstant;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.java.tree.TypesInUse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ApplyIndexedRenames extends Recipe {
+
+    private static final String RECIPE_RESOURCE = "/META-INF/rewrite/jackson-2-3.yml";
+
+    private static final String INDEXES = ApplyIndexedRenames.class.getName() + ".INDEXES";
+
+    @Option(displayName = "Recipes",
+            description = "Names of declarative recipes from `jackson-2-3.yml` whose renames are applied, in order. " +
+                    "Composite recipes are flattened into their `ChangeType`, `ChangePackage`, `ChangeMethodName` and " +
+                    "`ReplaceConstantWithAnotherConstant` steps.",
+            example = "org.openrewrite.java.jackson.UpgradeJackson_2_3_TypeChanges")
+    List<String> recipeNames;
+
+    String displayName = "Apply Jackson renames in a single indexed pass";
+
+    String description = "Apply the type, package, method and constant renames of one or more declarative recipes. " +
+            "The renames are indexed by the type, package or method name that triggers them, so only the steps " +
+            "that could match something a source file actually uses are run against it, in their original order. " +
+            "The result is the same as running the declarative recipes one after the other. Declarative recipes " +
+            "with preconditions and scanning recipes are rejected.";
+
+    Set<String> tags = singleton("jackson-3");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate();
+        try {
+            RenameIndex.load(recipeNames);
+        } catch (IllegalArgumentException e) {
+            validated = validated.and(Validated.invalid("recipeNames", recipeNames, e.getMessage()));
+        }
+        return validated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.instrument(this, performance, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                // Loaded once per execution context, so the recipes aren't kept beyond the run
+                RenameIndex index = ctx.<Map<List<String>, RenameIndex>>computeMessageIfAbsent(INDEXES, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(recipeNames, RenameIndex::load);
+                Tree t = tree;
+                BitSet candidates = null;
+                for (int i = 0; i < index.steps.size(); i++) {
+                    if (t instanceof JavaSourceFile) {
+                        if (candidates == null) {
+                            candidates = index.candidates((JavaSourceFile) t);
+                        }
+                        if (!candidates.get(i)) {
+                            continue;
+                        }
+                    }
+                    TreeVisitor<?, ExecutionContext> step = index.steps.get(i).getVisitor();
+                    if (!step.isAcceptable((SourceFile) t, ctx)) {
+                        continue;
+                    }
+                    Tree after = step.visit(t, ctx);
+                    if (after == null) {
+                        return null;
+                    }
+                    if (after != t) {
+                        // Renames applied so far may introduce types that later steps match on
+                        t = after;
+                        candidates = null;
+                    }
+                }
+                return t;
+            }
+        });
+    }
+
+    /**
+     * The leaf steps of the configured recipes in order, with hash indexes from the fully qualified
+     * names and method names that can trigger each step to the step's position.
+     */
+    private static class RenameIndex {
+        final List<Recipe> steps = new ArrayList<>();
+
+        /**
+         * Keyed by old type, old package or constant owner. Looked up with every prefix of each type
+         * a source file uses, which makes it a trie over package and outer class segments.
+         */
+        final Map<String, BitSet> byQualifiedName = new HashMap<>();
+
+        final Map<String, BitSet> byMethodName = new HashMap<>();
+
+        /**
+         * Steps that are not one of the indexed rename recipes, and so are run against every source file.
+         */
+        final BitSet always = new BitSet();
+
+        static RenameIndex load(List<String> recipeNames) {
+            Environment env;
+            try (InputStream yaml = ApplyIndexedRenames.class.getResourceAsStream(RECIPE_RESOURCE)) {
+                if (yaml == null) {
+                    throw new IllegalStateException("Unable to find " + RECIPE_RESOURCE + " on the classpath");
+                }
+                env = Environment.builder()
+                        .load(new YamlResourceLoader(yaml, URI.create("classpath:" + RECIPE_RESOURCE), new Properties()))
+                        .build();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            RenameIndex index = new RenameIndex();
+            index.addAll(env.activateRecipes(recipeNames));
+            return index;
+        }
+
+        private void addAll(Recipe recipe) {
+            if (recipe instanceof CompositeRecipe || recipe instanceof DeclarativeRecipe) {
+                for (Recipe child : recipe.getRecipeList()) {
+                    addAll(child);
+                }
+                return;
+            }
+            if (recipe instanceof ScanningRecipe) {
+                throw new IllegalArgumentException("`" + recipe.getName() + "` is a scanning recipe, whose scanning " +
+                                                   "phase would be skipped when it is run as a step of ApplyIndexedRenames");
+            }
+            if (recipe.getClass().getEnclosingClass() == DeclarativeRecipe.class) {
+                // The preconditions of a declarative recipe are checked by wrappers around its steps, which only work
+                // when the declarative recipe itself is run
+                throw new IllegalArgumentException("`" + recipe.getName() + "` has preconditions, which would be " +
+                                                   "skipped when it is run as a step of ApplyIndexedRenames");
+            }
+            int position = steps.size();
+            steps.add(recipe);
+            if (recipe instanceof ChangeType) {
+                index(byQualifiedName, ((ChangeType) recipe).getOldFullyQualifiedTypeName(), position);
+            } else if (recipe instanceof ChangePackage) {
+                index(byQualifiedName, ((ChangePackage) recipe).getOldPackageName(), position);
+            } else if (recipe instanceof ReplaceConstantWithAnotherConstant) {
+                String constant = ((ReplaceConstantWithAnotherConstant) recipe).getExistingFullyQualifiedConstantName();
+                index(byQualifiedName, constant.substring(0, constant.lastIndexOf('.')), position);
+            } else if (recipe instanceof ChangeMethodName) {
+                String methodName = methodName(((ChangeMethodName) recipe).getMethodPattern());
+                if (methodName == null) {
+                    always.set(position);
+                } else {
+                    index(byMethodName, methodName, position);
+                }
+            } else {
+                always.set(position);
+            }
+        }
+
+        private static void index(Map<String, BitSet> index, String key, int position) {
+            index.computeIfAbsent(key, k -> new BitSet()).set(position);
+        }
+
+        /**
+         * The method name of a {@link org.openrewrite.java.MethodMatcher} pattern, or {@code null} when
+         * the pattern uses a wildcard and so can't be looked up by name.
+         */
+        private static @Nullable String methodName(String methodPattern) {
+            int paren = methodPattern.indexOf('(');
+            if (paren < 0) {
+                return null;
+            }
+            String name = methodPattern.substring(0, paren).trim();
+            name = name.substring(name.lastIndexOf(' ') + 1);
+            return name.contains("*") ? null : name;
+        }
+
+        BitSet candidates(JavaSourceFile sourceFile) {
+            BitSet candidates = (BitSet) always.clone();
+            TypesInUse typesInUse = sourceFile.getTypesInUse();
+            Set<String> qualifiedNames = new HashSet<>();
+            for (JavaType type : typesInUse.getTypesInUse()) {
+                addQualifiedName(qualifiedNames, type);
+            }
+            for (JavaType.Method method : typesInUse.getUsedMethods()) {
+                addQualifiedName(qualifiedNames, method.getDeclaringType());
+                lookup(byMethodName, method.getName(), candidates);
+            }
+            for (JavaType.Method method : typesInUse.getDeclaredMethods()) {
+                addQualifiedName(qualifiedNames, method.getDeclaringType());
+                lookup(byMethodName, method.getName(), candidates);
+            }
+            for (JavaType.Variable variable : typesInUse.getVariables()) {
+                addQualifiedName(qualifiedNames, variable.getOwner());
+            }
+            if (sourceFile.getClasses().isEmpty()) {
+                // e.g. package-info.java, where a package rename can only be matched on the declaration
+                candidates.set(0, steps.size());
+                return candidates;
+            }
+            for (J.ClassDeclaration classDecl : sourceFile.getClasses()) {
+                addQualifiedName(qualifiedNames, classDecl.getType());
+            }
+            // Unused imports and those only referred to from Javadoc aren't types in use, but are still renamed
+            for (J.Import anImport : sourceFile.getImports()) {
+                qualifiedNames.add(anImport.getPackageName());
+                if (anImport.isStatic() || !"*".equals(anImport.getQualid().getSimpleName())) {
+                    qualifiedNames.add(anImport.getTypeName());
+                }
+            }
+            for (String qualifiedName : qualifiedNames) {
+                lookup(byQualifiedName, qualifiedName, candidates);
+                for (int i = 0; i < qualifiedName.length(); i++) {
+                    char c = qualifiedName.charAt(i);
+                    if (c == '.' || c == '$') {
+                        lookup(byQualifiedName, qualifiedName.substring(0, i), candidates);
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        private static void addQualifiedName(Set<String> qualifiedNames, @Nullable JavaType type) {
+            while (type instanceof JavaType.Array) {
+                type = ((JavaType.Array) type).getElemType();
+            }
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null) {
+                qualifiedNames.add(fq.getFullyQualifiedName());
+            }
+        }
+
+        private static void lookup(Map<String, BitSet> index, String key, BitSet candidates) {
+            BitSet positions = index.get(key);
+            if (positions != null) {
+                candidates.or(positions);
+            }
+        }
+    }
+}
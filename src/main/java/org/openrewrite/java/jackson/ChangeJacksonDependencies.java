@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.java.dependencies.ChangeDependency;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ChangeJacksonDependencies extends Recipe {
+
+    private static final Pattern RELOCATION = Pattern.compile("([^:=\\s]+):([^:=\\s]+)=([^:=\\s]+):([^:=\\s]+):([^:=\\s]+)");
+
+    private static final String INDEXES = ChangeJacksonDependencies.class.getName() + ".INDEXES";
+
+    @Option(displayName = "Relocations",
+            description = "Dependencies to change, in order, each as `oldGroupId:oldArtifactId=newGroupId:newArtifactId:newVersion`. " +
+                    "The old artifact ID may be a glob. A new artifact ID of `*` keeps the old one.",
+            example = "com.fasterxml.jackson.core:jackson-databind=tools.jackson.core:jackson-databind:3.1.x")
+    List<String> relocations;
+
+    String displayName = "Change Jackson dependencies in a single indexed pass";
+
+    String description = "Change the group, artifact and version of Maven and Gradle dependencies from a table of " +
+            "relocations. Only Maven and Gradle build files with a resolved project model are visited. The relocations are " +
+            "indexed by their old group ID, so each build file is visited once and only the relocations for group IDs " +
+            "it mentions are applied to it, in their original order. The result is the same as running a " +
+            "`ChangeDependency` recipe for each relocation one after the other.";
+
+    Set<String> tags = singleton("jackson-3");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate();
+        if (relocations != null) {
+            for (String relocation : relocations) {
+                validated = validated.and(Validated.test("relocations",
+                        "must be of the form `oldGroupId:oldArtifactId=newGroupId:newArtifactId:newVersion`",
+                        relocation, r -> RELOCATION.matcher(r).matches()));
+            }
+        }
+        return validated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.instrument(this, performance, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || !isBuildFile((SourceFile) tree)) {
+                    return tree;
+                }
+                // Built once per execution context, so the steps aren't kept beyond the run
+                RelocationIndex index = ctx.<Map<List<String>, RelocationIndex>>computeMessageIfAbsent(INDEXES, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(relocations, RelocationIndex::new);
+                Tree t = tree;
+                BitSet candidates = null;
+                for (int i = 0; i < index.steps.size(); i++) {
+                    if (candidates != null && !candidates.get(i)) {
+                        continue;
+                    }
+                    TreeVisitor<?, ExecutionContext> step = index.steps.get(i).getVisitor();
+                    if (!step.isAcceptable((SourceFile) t, ctx)) {
+                        continue;
+                    }
+                    if (candidates == null) {
+                        // Printing the file is only worth it once a step accepts it
+                        candidates = index.candidates((SourceFile) t);
+                        if (!candidates.get(i)) {
+                            continue;
+                        }
+                    }
+                    Tree after = step.visit(t, ctx);
+                    if (after == null) {
+                        return null;
+                    }
+                    if (after != t) {
+                        // A relocation may introduce a group ID that a later one changes again
+                        t = after;
+                        candidates = null;
+                    }
+                }
+                return t;
+            }
+        });
+    }
+
+    /**
+     * {@link ChangeDependency} only changes files with the Maven or Gradle project model attached.
+     */
+    private static boolean isBuildFile(SourceFile sourceFile) {
+        return sourceFile.getMarkers().findFirst(MavenResolutionResult.class).isPresent() ||
+               sourceFile.getMarkers().findFirst(GradleProject.class).isPresent();
+    }
+
+    /**
+     * The {@link ChangeDependency} step for each relocation in order, with a hash index from old group ID
+     * to the positions of the steps for it.
+     */
+    private static class RelocationIndex {
+        final List<ChangeDependency> steps = new ArrayList<>();
+
+        final Map<String, BitSet> byGroupId = new HashMap<>();
+
+        /**
+         * Steps whose old group ID is a glob, and so are run against every build file.
+         */
+        final BitSet always = new BitSet();
+
+        RelocationIndex(List<String> relocations) {
+            for (String relocation : relocations) {
+                Matcher m = RELOCATION.matcher(relocation);
+                if (!m.matches()) {
+                    throw new IllegalArgumentException("Invalid relocation `" + relocation + "`");
+                }
+                String oldGroupId = m.group(1);
+                int position = steps.size();
+                steps.add(new ChangeDependency(
+                        oldGroupId,
+                        m.group(2),
+                        m.group(3),
+                        "*".equals(m.group(4)) ? null : m.group(4),
+                        m.group(5),
+                        null, null, null));
+                if (oldGroupId.contains("*")) {
+                    always.set(position);
+                } else {
+                    byGroupId.computeIfAbsent(oldGroupId, k -> new BitSet()).set(position);
+                }
+            }
+        }
+
+        /**
+         * A build file can only declare a dependency on a group ID that occurs in its text, whether in a
+         * {@code <groupId>} element or a Gradle dependency notation.
+         */
+        BitSet candidates(SourceFile sourceFile) {
+            BitSet candidates = (BitSet) always.clone();
+            String text = sourceFile.printAll();
+            for (Map.Entry<String, BitSet> group : byGroupId.entrySet()) {
+                if (text.contains(group.getKey())) {
+                    candidates.or(group.getValue());
+                }
+            }
+            return candidates;
+        }
+    }
+}
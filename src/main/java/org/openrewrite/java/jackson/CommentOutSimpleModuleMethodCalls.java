@@ -17,13 +17,12 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -65,15 +64,16 @@ public class CommentOutSimpleModuleMethodCalls extends Recipe {
     @Getter
     final Set<String> tags = singleton("jackson-3");
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(ADD_SERIALIZER),
-                        new UsesMethod<>(ADD_DESERIALIZER),
-                        new UsesMethod<>(ADD_KEY_SERIALIZER),
-                        new UsesMethod<>(ADD_KEY_DESERIALIZER)
-                ),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(
+                        ADD_SERIALIZER,
+                        ADD_DESERIALIZER,
+                        ADD_KEY_SERIALIZER,
+                        ADD_KEY_DESERIALIZER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
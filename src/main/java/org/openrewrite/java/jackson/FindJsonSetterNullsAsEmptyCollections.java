@@ -20,15 +20,13 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Option;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.RemoveAnnotationVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -77,10 +75,12 @@ public class FindJsonSetterNullsAsEmptyCollections extends Recipe {
 
     Set<String> tags = singleton("jackson-3");
 
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(JACKSON_JSON_SETTER, false),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(JACKSON_JSON_SETTER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
@@ -137,10 +137,11 @@ public class FindJsonSetterNullsAsEmptyCollections extends Recipe {
                         }
 
                         maybeAddImport(JACKSON_JSON_IGNORE);
+                        JacksonRecipeMetrics.templateBuilt();
                         return JavaTemplate
                                 .builder("@JsonIgnore")
                                 .imports(JACKSON_JSON_IGNORE)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
+                                .javaParser(JacksonClasspath.parser(ctx, "jackson-annotations"))
                                 .build()
                                 .apply(getCursor(), restored.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
                     }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.jackson.table.ObjectMapperConstructionSites;
+import org.openrewrite.java.jackson.table.ObjectMapperConstructionSites.Risk;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.Flag;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindObjectMapperConstructionSites extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String SPRING_BEAN = "org.springframework.context.annotation.Bean";
+
+    private static final List<String> CONSTRUCTED_TYPES = new ArrayList<>();
+
+    static {
+        CONSTRUCTED_TYPES.add(OBJECT_MAPPER);
+        CONSTRUCTED_TYPES.addAll(MigrateMapperSettersToBuilder.ALL_MAPPERS);
+        CONSTRUCTED_TYPES.addAll(MigrateFactorySettersToBuilder.ALL_FACTORIES);
+    }
+
+    String displayName = "Find Jackson mapper construction sites";
+
+    String description = "Find every place an `ObjectMapper`, a format-aligned mapper such as `JsonMapper` or `YAMLMapper`, " +
+            "or a `JsonFactory` or format-specific factory is constructed, either with `new` or through its static `builder()`. " +
+            "Each site is classified by how often it is likely to run: in a loop body, in a lambda, in a method body, in an " +
+            "instance field, in a Spring `@Bean` method or in a static field. Mappers are expensive to build and thread-safe " +
+            "once configured, so sites in the first three categories are candidates for a shared instance.";
+
+    Set<String> tags = singleton("jackson-2");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    transient ObjectMapperConstructionSites constructionSites = new ObjectMapperConstructionSites(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(CONSTRUCTED_TYPES.toArray(new String[0])),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J.NewClass nc = super.visitNewClass(newClass, ctx);
+                        JavaType.Method constructor = nc.getConstructorType();
+                        String constructedType = constructedType(constructor == null ? null : constructor.getDeclaringType());
+                        return constructedType == null ? nc : found(nc, constructedType, ctx);
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                        JavaType.Method methodType = mi.getMethodType();
+                        if (methodType == null || !methodType.hasFlags(Flag.Static) ||
+                            !"builder".equals(mi.getSimpleName())) {
+                            return mi;
+                        }
+                        String constructedType = constructedType(methodType.getDeclaringType());
+                        return constructedType == null ? mi : found(mi, constructedType, ctx);
+                    }
+
+                    private <E extends Expression> E found(E construction, String constructedType, ExecutionContext ctx) {
+                        Risk risk = classify(getCursor());
+                        J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                        J.MethodDeclaration methodDecl = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                        constructionSites.insertRow(ctx, new ObjectMapperConstructionSites.Row(
+                                getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                                classDecl == null || classDecl.getType() == null ? "" : classDecl.getType().getFullyQualifiedName(),
+                                methodDecl == null ? null : methodDecl.getSimpleName(),
+                                constructedType,
+                                risk));
+                        return SearchResult.found(construction, risk.getDescription());
+                    }
+                });
+    }
+
+    private static @Nullable String constructedType(JavaType.@Nullable FullyQualified type) {
+        if (type == null) {
+            return null;
+        }
+        String fqn = type.getFullyQualifiedName();
+        return CONSTRUCTED_TYPES.contains(fqn) ? fqn : null;
+    }
+
+    /**
+     * Classifies a construction by the closest enclosing loop, lambda, method, field or initializer block.
+     *
+     * @param cursor a cursor pointing at the construction.
+     */
+    static Risk classify(Cursor cursor) {
+        for (Cursor c = cursor.getParentTreeCursor(); !(c.getValue() instanceof JavaSourceFile); c = c.getParentTreeCursor()) {
+            Object value = c.getValue();
+            if (value instanceof J.ForLoop || value instanceof J.ForEachLoop ||
+                value instanceof J.WhileLoop || value instanceof J.DoWhileLoop) {
+                return Risk.LOOP_BODY;
+            }
+            if (value instanceof J.Lambda) {
+                return Risk.LAMBDA;
+            }
+            if (value instanceof J.MethodDeclaration) {
+                return isBeanMethod((J.MethodDeclaration) value) ? Risk.SPRING_BEAN : Risk.METHOD_BODY;
+            }
+            if (value instanceof J.EnumValue) {
+                return Risk.STATIC_FIELD;
+            }
+            Cursor parent = c.getParentTreeCursor();
+            if (!(parent.getValue() instanceof J.Block) ||
+                !(parent.getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+                // Fields of anonymous classes are initialized wherever the anonymous class is instantiated
+                continue;
+            }
+            J.ClassDeclaration classDecl = parent.getParentTreeCursor().getValue();
+            if (value instanceof J.VariableDeclarations) {
+                return ((J.VariableDeclarations) value).hasModifier(J.Modifier.Type.Static) ||
+                       classDecl.getKind() == J.ClassDeclaration.Kind.Type.Interface ?
+                        Risk.STATIC_FIELD : Risk.INSTANCE_FIELD;
+            }
+            if (value instanceof J.Block) {
+                return ((J.Block) value).isStatic() ? Risk.STATIC_FIELD : Risk.INSTANCE_FIELD;
+            }
+        }
+        return Risk.METHOD_BODY;
+    }
+
+    private static boolean isBeanMethod(J.MethodDeclaration method) {
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            if (TypeUtils.isOfClassType(annotation.getType(), SPRING_BEAN)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
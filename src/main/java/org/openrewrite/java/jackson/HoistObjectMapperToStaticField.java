@@ -0,0 +1,432 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.jackson.MigrateMapperSettersToBuilder.SetterToBuilderMapping;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Objects.requireNonNull;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class HoistObjectMapperToStaticField extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String JSON_MAPPER = "com.fasterxml.jackson.databind.json.JsonMapper";
+
+    private static final MethodMatcher OBJECT_MAPPER_CTOR = new MethodMatcher(OBJECT_MAPPER + " <constructor>()");
+    private static final MethodMatcher JSON_MAPPER_CTOR = new MethodMatcher(JSON_MAPPER + " <constructor>()");
+    private static final MethodMatcher JSON_MAPPER_BUILDER = new MethodMatcher(JSON_MAPPER + " builder()");
+    private static final MethodMatcher MAPPER_BUILDER_BUILD = new MethodMatcher("com.fasterxml.jackson.databind.cfg.MapperBuilder build()");
+
+    /**
+     * {@code ObjectMapper} methods that don't change the mapper's configuration, and so are safe to call
+     * on an instance shared between threads. Matched as prefixes of the method name.
+     */
+    private static final List<String> READ_ONLY_PREFIXES = Arrays.asList(
+            "read", "write", "convertValue", "valueToTree", "treeToValue", "treeAsTokens",
+            "createObjectNode", "createArrayNode", "createParser", "createGenerator",
+            "constructType", "getTypeFactory", "getSerializationConfig", "getDeserializationConfig"
+    );
+
+    String displayName = "Hoist `ObjectMapper` construction into a static field";
+
+    String description = "Constructing an `ObjectMapper` is expensive: every instance builds its own serializer and " +
+            "deserializer caches. Mappers that are created inside a method, lambda or loop, configured only with " +
+            "constants and then only used to read or write values, are moved to a `private static final` field of " +
+            "the enclosing class. Identically configured mappers in the same class share one field.";
+
+    Set<String> tags = singleton("jackson-2");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(
+                        OBJECT_MAPPER_CTOR,
+                        JSON_MAPPER_CTOR,
+                        JSON_MAPPER_BUILDER),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                        // Kotlin has no static fields; companion objects are out of scope
+                        return sourceFile instanceof J.CompilationUnit;
+                    }
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                        if (!StaticFieldSupport.canDeclareStaticField(cd, getCursor())) {
+                            return cd;
+                        }
+
+                        Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                        Hoister hoister = new Hoister(
+                                StaticFieldSupport.declaredNames(cd),
+                                StaticFieldSupport.staticFinalFieldsByInitializer(cd.getBody(), bodyCursor));
+                        J.Block body = cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), s ->
+                                s instanceof J.MethodDeclaration && ((J.MethodDeclaration) s).getBody() != null ?
+                                        (Statement) hoister.visitNonNull(s, ctx, bodyCursor) :
+                                        s));
+                        if (hoister.references.isEmpty()) {
+                            return cd;
+                        }
+                        cd = cd.withBody(body);
+
+                        List<HoistedField> fields = new ArrayList<>(hoister.fields.values());
+                        for (int i = fields.size() - 1; i >= 0; i--) {
+                            HoistedField field = fields.get(i);
+                            JacksonRecipeMetrics.templateBuilt();
+                            cd = JavaTemplate.builder("private static final " + field.typeName + " " + field.name +
+                                                      " = " + field.initializer + ";")
+                                    .contextSensitive()
+                                    .imports(field.imports.toArray(new String[0]))
+                                    .javaParser(JacksonClasspath.parser(ctx,
+                                            "jackson-annotations-2",
+                                            "jackson-core-2",
+                                            "jackson-databind-2"))
+                                    .build()
+                                    .apply(updateCursor(cd), cd.getBody().getCoordinates().firstStatement());
+                            for (String fqn : field.imports) {
+                                maybeAddImport(fqn);
+                            }
+                        }
+                        cd = separateFromFields(cd, fields.size());
+                        return StaticFieldSupport.attributeFieldReferences(cd, hoister.references);
+                    }
+                });
+    }
+
+    /**
+     * Puts a blank line between the fields declared first in the class body and the statement that
+     * follows them, unless that is another field.
+     */
+    private static J.ClassDeclaration separateFromFields(J.ClassDeclaration cd, int fieldCount) {
+        List<Statement> statements = cd.getBody().getStatements();
+        if (fieldCount >= statements.size() || statements.get(fieldCount) instanceof J.VariableDeclarations) {
+            return cd;
+        }
+        String whitespace = statements.get(fieldCount).getPrefix().getWhitespace();
+        int newline = whitespace.indexOf('\n');
+        if (newline < 0 || newline != whitespace.lastIndexOf('\n')) {
+            return cd;
+        }
+        return cd.withBody(cd.getBody().withStatements(ListUtils.map(statements, (i, s) ->
+                i == fieldCount ? s.withPrefix(s.getPrefix().withWhitespace("\n" + whitespace)) : s)));
+    }
+
+    @Value
+    private static class HoistedField {
+        String name;
+        String typeName;
+        String initializer;
+        Set<String> imports;
+    }
+
+    /**
+     * Rewrites the body of one method, replacing hoistable mappers with references to a static field
+     * and recording the fields to declare.
+     */
+    private static class Hoister extends JavaIsoVisitor<ExecutionContext> {
+        private final Set<String> takenNames;
+        private final Map<String, String> existingFields;
+        final Map<String, HoistedField> fields = new LinkedHashMap<>();
+        final Set<UUID> references = new HashSet<>();
+
+        Hoister(Set<String> takenNames, Map<String, String> existingFields) {
+            this.takenNames = takenNames;
+            this.existingFields = existingFields;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            // Local classes get their own fields, if they can have any
+            return classDecl;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+            // Anonymous class bodies belong to a different class
+            return newClass.getBody() == null ? super.visitNewClass(newClass, ctx) : newClass;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            Expression select = mi.getSelect();
+            if (select == null || !isReadOnly(mi, getCursor()) || !isHoistableMapper(select)) {
+                return mi;
+            }
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(select.getType());
+            if (type == null) {
+                return mi;
+            }
+            String name = fieldFor(StaticFieldSupport.constantName(type.getClassName()), type.getClassName(),
+                    select.printTrimmed(getCursor()), singleton(type.getFullyQualifiedName()));
+            return mi.withSelect(reference(select.getPrefix(), name, select.getType()));
+        }
+
+        @Override
+        public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+            J.Block b = super.visitBlock(block, ctx);
+            List<Statement> statements = b.getStatements();
+            for (int i = 0; i < statements.size(); i++) {
+                if (!(statements.get(i) instanceof J.VariableDeclarations)) {
+                    continue;
+                }
+                J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(i);
+                if (vd.getVariables().size() != 1 || !vd.getLeadingAnnotations().isEmpty() || vd.getTypeExpression() == null) {
+                    continue;
+                }
+                J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+                Expression initializer = variable.getInitializer();
+                JavaType.FullyQualified declaredType = TypeUtils.asFullyQualified(vd.getType());
+                if (initializer == null || declaredType == null || !isHoistableMapper(initializer)) {
+                    continue;
+                }
+
+                String variableName = variable.getSimpleName();
+                int end = i + 1;
+                while (end < statements.size() && isConstantSetter(statements.get(end), variableName)) {
+                    end++;
+                }
+                List<Statement> setters = statements.subList(i + 1, end);
+                if (!setters.isEmpty() && !(initializer instanceof J.NewClass)) {
+                    continue;
+                }
+                List<Statement> rest = statements.subList(end, statements.size());
+                if (!onlyReadOnlyUses(rest, variableName)) {
+                    continue;
+                }
+
+                Cursor blockCursor = getCursor();
+                Set<String> imports = new LinkedHashSet<>();
+                imports.add(declaredType.getFullyQualifiedName());
+                String code;
+                if (setters.isEmpty()) {
+                    code = initializer.printTrimmed(blockCursor);
+                } else {
+                    imports.add(JSON_MAPPER);
+                    code = builderCode(setters, blockCursor);
+                }
+                // `var` declarations get the type of the initializer instead of `var`
+                String typeName = vd.getTypeExpression() instanceof J.Identifier &&
+                                  "var".equals(((J.Identifier) vd.getTypeExpression()).getSimpleName()) ?
+                        declaredType.getClassName() :
+                        vd.getTypeExpression().printTrimmed(blockCursor);
+                String name = fieldFor(StaticFieldSupport.constantName(variableName), typeName, code, imports);
+
+                List<Statement> replaced = new ArrayList<>(statements.subList(0, i));
+                for (Statement s : rest) {
+                    replaced.add(replaceReceiver(s, variableName, name, vd.getType()));
+                }
+                if (replaced.size() > i) {
+                    // Keep the whitespace of the first removed statement, so no blank lines appear or vanish
+                    replaced.set(i, replaced.get(i).withPrefix(vd.getPrefix()));
+                }
+                statements = replaced;
+                b = b.withStatements(statements);
+                i--;
+            }
+            return b;
+        }
+
+        private String fieldFor(String baseName, String typeName, String initializer, Set<String> imports) {
+            String key = StaticFieldSupport.initializerKey(initializer);
+            String existing = existingFields.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            HoistedField field = fields.get(key);
+            if (field == null) {
+                field = new HoistedField(StaticFieldSupport.uniqueName(baseName, takenNames), typeName, initializer, imports);
+                fields.put(key, field);
+            }
+            return field.name;
+        }
+
+        private J.Identifier reference(Space prefix, String name, @Nullable JavaType type) {
+            J.Identifier ref = new J.Identifier(Tree.randomId(), prefix, Markers.EMPTY, emptyList(), name, type, null);
+            references.add(ref.getId());
+            return ref;
+        }
+
+        private Statement replaceReceiver(Statement statement, String variableName, String fieldName, @Nullable JavaType type) {
+            return (Statement) new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                    J.MethodInvocation mi = super.visitMethodInvocation(method, p);
+                    if (mi.getSelect() instanceof J.Identifier &&
+                        variableName.equals(((J.Identifier) mi.getSelect()).getSimpleName())) {
+                        return mi.withSelect(reference(mi.getSelect().getPrefix(), fieldName, type));
+                    }
+                    return mi;
+                }
+            }.visitNonNull(statement, 0, getCursor());
+        }
+
+        private static String builderCode(List<Statement> setters, Cursor cursor) {
+            StringBuilder code = new StringBuilder("JsonMapper.builder()");
+            for (Statement setter : setters) {
+                J.MethodInvocation mi = (J.MethodInvocation) setter;
+                SetterToBuilderMapping mapping = requireNonNull(SetterToBuilderMapping.fromSetter(mi.getSimpleName()));
+                // One call per line, as MigrateMapperSettersToBuilder lays out builders
+                code.append("\n.").append(mapping.builderNameFor(mi)).append('(');
+                boolean first = true;
+                for (Expression arg : mi.getArguments()) {
+                    if (arg instanceof J.Empty) {
+                        continue;
+                    }
+                    if (!first) {
+                        code.append(", ");
+                    }
+                    code.append(arg.printTrimmed(cursor));
+                    first = false;
+                }
+                code.append(')');
+            }
+            return code.append("\n.build()").toString();
+        }
+    }
+
+    /**
+     * Whether the call leaves the mapper it is invoked on unchanged.
+     *
+     * @param cursor a cursor pointing at the call, before any changes to it.
+     */
+    static boolean isReadOnly(J.MethodInvocation mi, Cursor cursor) {
+        String name = mi.getSimpleName();
+        if ("getFactory".equals(name)) {
+            // The Jackson 2 JsonFactory is mutable, so the mapper is only left unchanged if its factory
+            // isn't called or kept in a variable
+            Object parent = cursor.getParentTreeCursor().getValue();
+            return !(parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == cursor.getValue()) &&
+                   !(parent instanceof J.VariableDeclarations.NamedVariable) &&
+                   !(parent instanceof J.Assignment);
+        }
+        for (String prefix : READ_ONLY_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A no-argument {@code ObjectMapper} or {@code JsonMapper} constructor, or a
+     * {@code JsonMapper.builder()...build()} chain whose arguments are all constants.
+     */
+    private static boolean isHoistableMapper(Expression expression) {
+        if (expression instanceof J.NewClass) {
+            J.NewClass nc = (J.NewClass) expression;
+            return nc.getBody() == null && (OBJECT_MAPPER_CTOR.matches(nc) || JSON_MAPPER_CTOR.matches(nc));
+        }
+        if (!(expression instanceof J.MethodInvocation) || !MAPPER_BUILDER_BUILD.matches(expression)) {
+            return false;
+        }
+        Expression current = ((J.MethodInvocation) expression).getSelect();
+        while (current instanceof J.MethodInvocation) {
+            J.MethodInvocation call = (J.MethodInvocation) current;
+            if (JSON_MAPPER_BUILDER.matches(call)) {
+                return true;
+            }
+            for (Expression arg : call.getArguments()) {
+                if (!StaticFieldSupport.isConstant(arg)) {
+                    return false;
+                }
+            }
+            current = call.getSelect();
+        }
+        return false;
+    }
+
+    /**
+     * A statement like {@code mapper.enable(SerializationFeature.INDENT_OUTPUT)} that has a builder
+     * equivalent and whose arguments are all constants.
+     */
+    private static boolean isConstantSetter(Statement statement, String variableName) {
+        if (!(statement instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation mi = (J.MethodInvocation) statement;
+        if (!(mi.getSelect() instanceof J.Identifier) ||
+            !variableName.equals(((J.Identifier) mi.getSelect()).getSimpleName()) ||
+            SetterToBuilderMapping.fromSetter(mi.getSimpleName()) == null ||
+            mi.getMethodType() == null ||
+            !TypeUtils.isAssignableTo(OBJECT_MAPPER, mi.getMethodType().getDeclaringType())) {
+            return false;
+        }
+        for (Expression arg : mi.getArguments()) {
+            if (!StaticFieldSupport.isConstant(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether every mention of the variable in the statements is as the receiver of a read-only call,
+     * so the mapper is neither reconfigured nor escapes to code that might reconfigure it.
+     */
+    private static boolean onlyReadOnlyUses(List<Statement> statements, String variableName) {
+        AtomicBoolean otherUse = new AtomicBoolean();
+        JavaIsoVisitor<AtomicBoolean> visitor = new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean other) {
+                if (method.getSelect() instanceof J.Identifier &&
+                    variableName.equals(((J.Identifier) method.getSelect()).getSimpleName()) &&
+                    isReadOnly(method, getCursor())) {
+                    for (Expression arg : method.getArguments()) {
+                        visit(arg, other);
+                    }
+                    return method;
+                }
+                return super.visitMethodInvocation(method, other);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean other) {
+                if (variableName.equals(identifier.getSimpleName())) {
+                    other.set(true);
+                }
+                return identifier;
+            }
+        };
+        for (Statement statement : statements) {
+            visitor.visit(statement, otherUse);
+            if (otherUse.get()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class HoistObjectReaderToStaticField extends Recipe {
+
+    private static final MethodMatcher READ_VALUE_CLASS =
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(.., java.lang.Class)", true);
+    private static final MethodMatcher READ_VALUE_TYPE_REFERENCE =
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper readValue(.., com.fasterxml.jackson.core.type.TypeReference)", true);
+    private static final MethodMatcher READ_VALUE_CLASS_3 =
+            new MethodMatcher("tools.jackson.databind.ObjectMapper readValue(.., java.lang.Class)", true);
+    private static final MethodMatcher READ_VALUE_TYPE_REFERENCE_3 =
+            new MethodMatcher("tools.jackson.databind.ObjectMapper readValue(.., tools.jackson.core.type.TypeReference)", true);
+
+    String displayName = "Hoist `ObjectReader` for a fixed type into a static field";
+
+    String description = "`ObjectMapper.readValue(..., Foo.class)` looks up the root deserializer for `Foo` on every call. " +
+            "Where the mapper is a `static final` field, the target type is a class literal or a `TypeReference` and " +
+            "the result is assigned, returned or declared with an explicit type, " +
+            "declare a `private static final ObjectReader` built with `mapper.readerFor(...)` and read through it " +
+            "instead. Readers are immutable and thread-safe, and calls with the same mapper and target type in a " +
+            "class share one field. " +
+            "Mappers that are configured anywhere in the source file other than a static initializer are left alone, " +
+            "since the reader is built with the configuration the mapper has when the class is initialized. Configuration " +
+            "changes made from other source files are not detected.";
+
+    Set<String> tags = singleton("jackson-2");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(
+                        READ_VALUE_CLASS,
+                        READ_VALUE_TYPE_REFERENCE,
+                        READ_VALUE_CLASS_3,
+                        READ_VALUE_TYPE_REFERENCE_3),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                        // Kotlin has no static fields; companion objects are out of scope
+                        return sourceFile instanceof J.CompilationUnit;
+                    }
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                        if (!StaticFieldSupport.canDeclareStaticField(cd, getCursor())) {
+                            return cd;
+                        }
+
+                        Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                        MapperDerivedFields readers = new MapperDerivedFields(cd, getCursor());
+                        Hoister hoister = new Hoister(readers);
+                        J.Block body = cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), s ->
+                                s instanceof J.MethodDeclaration && ((J.MethodDeclaration) s).getBody() != null ?
+                                        (Statement) hoister.visitNonNull(s, ctx, bodyCursor) :
+                                        s));
+                        if (readers.isEmpty()) {
+                            return cd;
+                        }
+                        cd = readers.declare(cd.withBody(body), getCursor().getParentOrThrow(), ctx);
+                        for (String fqn : readers.imports()) {
+                            maybeAddImport(fqn);
+                        }
+                        return cd;
+                    }
+                });
+    }
+
+    /**
+     * Rewrites the body of one method, reading through reader fields and recording the fields to declare.
+     */
+    @RequiredArgsConstructor
+    private static class Hoister extends JavaIsoVisitor<ExecutionContext> {
+        private final MapperDerivedFields readers;
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            // Local classes get their own fields, if they can have any
+            return classDecl;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+            // Anonymous class bodies belong to a different class
+            return newClass.getBody() == null ? super.visitNewClass(newClass, ctx) : newClass;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            boolean jackson3 = READ_VALUE_CLASS_3.matches(mi) || READ_VALUE_TYPE_REFERENCE_3.matches(mi);
+            if (!jackson3 && !READ_VALUE_CLASS.matches(mi) && !READ_VALUE_TYPE_REFERENCE.matches(mi)) {
+                return mi;
+            }
+            JavaType.Method methodType = mi.getMethodType();
+            Expression select = mi.getSelect();
+            JavaType.Variable mapperField = StaticFieldSupport.staticFinalField(select);
+            List<Expression> args = mi.getArguments();
+            Expression target = args.get(args.size() - 1);
+            JavaType targetType = targetType(target);
+            if (methodType == null || select == null || mapperField == null || targetType == null) {
+                return mi;
+            }
+            // The field would keep the configuration the mapper had when the class was initialized
+            if (readers.isReconfigured(mapperField)) {
+                return mi;
+            }
+            // ObjectReader.readValue(..) is generic, and would otherwise read an Object
+            if (!ReplaceObjectMapperCopy.isTargetTyped(getCursor())) {
+                return mi;
+            }
+
+            String name = readers.fieldFor(
+                    StaticFieldSupport.constantName(StaticFieldSupport.typeBaseName(targetType)) + "_READER",
+                    (jackson3 ? "tools.jackson" : "com.fasterxml.jackson") + ".databind.ObjectReader",
+                    select.printTrimmed(getCursor()) + ".readerFor(" + target.printTrimmed(getCursor()) + ")",
+                    mapperField.getName());
+            List<JavaType> parameterTypes = methodType.getParameterTypes();
+            J.Identifier reader = readers.reference(select.getPrefix(), name,
+                    methodType.withParameterTypes(new ArrayList<>(parameterTypes.subList(0, parameterTypes.size() - 1))));
+            return mi.withSelect(reader).withArguments(new ArrayList<>(args.subList(0, args.size() - 1)));
+        }
+    }
+
+    /**
+     * The type read by a class literal or an empty anonymous {@code TypeReference}, if it can be named in a
+     * static field initializer: it mustn't mention type variables or local classes.
+     */
+    private static @Nullable JavaType targetType(Expression target) {
+        JavaType type = null;
+        if (target instanceof J.FieldAccess && "class".equals(((J.FieldAccess) target).getSimpleName())) {
+            type = ((J.FieldAccess) target).getTarget().getType();
+        } else if (target instanceof J.NewClass) {
+            J.NewClass nc = (J.NewClass) target;
+            JavaType.Parameterized typeReference = nc.getClazz() == null ? null : TypeUtils.asParameterized(nc.getClazz().getType());
+            if (nc.getBody() != null && nc.getBody().getStatements().isEmpty() &&
+                typeReference != null && typeReference.getTypeParameters().size() == 1) {
+                type = typeReference.getTypeParameters().get(0);
+            }
+        }
+        return type != null && StaticFieldSupport.isNameableInStaticContext(type) ? type : null;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.*;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class HoistObjectWriterToStaticField extends Recipe {
+
+    private static final MethodMatcher WRITE_VALUE_AS =
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writeValueAs*(java.lang.Object)", true);
+    private static final MethodMatcher WRITER_WRITE_VALUE_AS =
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectWriter writeValueAs*(java.lang.Object)");
+    private static final MethodMatcher WRITER_WITH_DEFAULT_PRETTY_PRINTER =
+            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper writerWithDefaultPrettyPrinter()", true);
+    private static final MethodMatcher WRITE_VALUE_AS_3 =
+            new MethodMatcher("tools.jackson.databind.ObjectMapper writeValueAs*(java.lang.Object)", true);
+    private static final MethodMatcher WRITER_WRITE_VALUE_AS_3 =
+            new MethodMatcher("tools.jackson.databind.ObjectWriter writeValueAs*(java.lang.Object)");
+    private static final MethodMatcher WRITER_WITH_DEFAULT_PRETTY_PRINTER_3 =
+            new MethodMatcher("tools.jackson.databind.ObjectMapper writerWithDefaultPrettyPrinter()", true);
+
+    String displayName = "Hoist `ObjectWriter` for a fixed type into a static field";
+
+    String description = "`ObjectMapper.writeValueAsString(value)` and `writeValueAsBytes(value)` look up the serializer " +
+            "for the runtime type of the value and apply the mapper's configuration on every call. Where the mapper is a " +
+            "`static final` field and the value's declared type is a final class, so that its runtime type is known, " +
+            "declare a `private static final ObjectWriter` built with `mapper.writerFor(...)` and write through it instead. " +
+            "Calls chained on `writerWithDefaultPrettyPrinter()` get a writer with the default pretty printer. " +
+            "Mappers that are configured anywhere in the source file other than a static initializer are left alone, " +
+            "since the writer is built with the configuration the mapper has when the class is initialized. Configuration " +
+            "changes made from other source files are not detected.";
+
+    Set<String> tags = singleton("jackson-2");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(
+                        WRITE_VALUE_AS,
+                        WRITER_WITH_DEFAULT_PRETTY_PRINTER,
+                        WRITE_VALUE_AS_3,
+                        WRITER_WITH_DEFAULT_PRETTY_PRINTER_3),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                        // Kotlin has no static fields; companion objects are out of scope
+                        return sourceFile instanceof J.CompilationUnit;
+                    }
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                        if (!StaticFieldSupport.canDeclareStaticField(cd, getCursor())) {
+                            return cd;
+                        }
+
+                        Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                        MapperDerivedFields writers = new MapperDerivedFields(cd, getCursor());
+                        Hoister hoister = new Hoister(writers);
+                        J.Block body = cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), s ->
+                                s instanceof J.MethodDeclaration && ((J.MethodDeclaration) s).getBody() != null ?
+                                        (Statement) hoister.visitNonNull(s, ctx, bodyCursor) :
+                                        s));
+                        if (writers.isEmpty()) {
+                            return cd;
+                        }
+                        cd = writers.declare(cd.withBody(body), getCursor().getParentOrThrow(), ctx);
+                        for (String fqn : writers.imports()) {
+                            maybeAddImport(fqn);
+                        }
+                        return cd;
+                    }
+                });
+    }
+
+    /**
+     * Rewrites the body of one method, writing through writer fields and recording the fields to declare.
+     */
+    @RequiredArgsConstructor
+    private static class Hoister extends JavaIsoVisitor<ExecutionContext> {
+        private final MapperDerivedFields writers;
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            // Local classes get their own fields, if they can have any
+            return classDecl;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+            // Anonymous class bodies belong to a different class
+            return newClass.getBody() == null ? super.visitNewClass(newClass, ctx) : newClass;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            Expression mapper;
+            boolean pretty;
+            boolean jackson3;
+            if (WRITE_VALUE_AS.matches(mi) || WRITE_VALUE_AS_3.matches(mi)) {
+                mapper = mi.getSelect();
+                pretty = false;
+                jackson3 = WRITE_VALUE_AS_3.matches(mi);
+            } else if ((WRITER_WRITE_VALUE_AS.matches(mi) || WRITER_WRITE_VALUE_AS_3.matches(mi)) &&
+                       (WRITER_WITH_DEFAULT_PRETTY_PRINTER.matches(mi.getSelect()) ||
+                        WRITER_WITH_DEFAULT_PRETTY_PRINTER_3.matches(mi.getSelect()))) {
+                mapper = ((J.MethodInvocation) mi.getSelect()).getSelect();
+                pretty = true;
+                jackson3 = WRITER_WRITE_VALUE_AS_3.matches(mi);
+            } else {
+                return mi;
+            }
+            JavaType.Method methodType = mi.getMethodType();
+            JavaType.Variable mapperField = StaticFieldSupport.staticFinalField(mapper);
+            JavaType.Class valueType = finalClass(mi.getArguments().get(0).getType());
+            if (methodType == null || mapper == null || mapperField == null || valueType == null) {
+                return mi;
+            }
+            // The field would keep the configuration the mapper had when the class was initialized
+            if (writers.isReconfigured(mapperField)) {
+                return mi;
+            }
+
+            String name = writers.fieldFor(
+                    StaticFieldSupport.constantName(StaticFieldSupport.typeBaseName(valueType)) + (pretty ? "_PRETTY_WRITER" : "_WRITER"),
+                    (jackson3 ? "tools.jackson" : "com.fasterxml.jackson") + ".databind.ObjectWriter",
+                    mapper.printTrimmed(getCursor()) + ".writerFor(" + className(valueType) + ".class)" +
+                    (pretty ? ".withDefaultPrettyPrinter()" : ""),
+                    mapperField.getName());
+            return mi.withSelect(writers.reference(mapper.getPrefix(), name, methodType));
+        }
+
+        /**
+         * The name to write a class literal for the type with: relative to the innermost enclosing class
+         * it is nested in, or otherwise the class name, importing its outermost class.
+         */
+        private String className(JavaType.Class type) {
+            String fqn = type.getFullyQualifiedName();
+            for (Iterator<Object> path = getCursor().getPath(); path.hasNext(); ) {
+                Object value = path.next();
+                if (value instanceof J.ClassDeclaration && ((J.ClassDeclaration) value).getType() != null) {
+                    String owner = ((J.ClassDeclaration) value).getType().getFullyQualifiedName() + "$";
+                    if (fqn.startsWith(owner)) {
+                        return fqn.substring(owner.length()).replace('$', '.');
+                    }
+                }
+            }
+            String outermost = fqn.indexOf('$') < 0 ? fqn : fqn.substring(0, fqn.indexOf('$'));
+            if (outermost.indexOf('.') > 0) {
+                writers.requireImport(outermost);
+            }
+            return type.getClassName();
+        }
+    }
+
+    /**
+     * The declared type of a value when it is a final, non-generic class, so that every value has exactly
+     * this runtime type and a writer for it serializes the value the same way the mapper would.
+     */
+    private static JavaType.@Nullable Class finalClass(@Nullable JavaType type) {
+        if (!(type instanceof JavaType.Class)) {
+            return null;
+        }
+        JavaType.Class clazz = (JavaType.Class) type;
+        if (!clazz.getFlags().contains(Flag.Final) || !clazz.getTypeParameters().isEmpty() ||
+            !StaticFieldSupport.isNameableInStaticContext(clazz)) {
+            return null;
+        }
+        return clazz;
+    }
+}
@@ -16,13 +16,13 @@
 package org.openrewrite.java.jackson;
 
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.FindMethods;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -48,6 +48,23 @@ public class IOExceptionToJacksonException extends Recipe {
     private static final MethodMatcher OBJECT_READER_MATCHER = new MethodMatcher(OBJECT_READER_PATTERN, true);
     private static final MethodMatcher OBJECT_WRITER_MATCHER = new MethodMatcher(OBJECT_WRITER_PATTERN, true);
 
+    /**
+     * Whether a try contains any Jackson call, anywhere in it including nested tries, collected bottom-up
+     * in a message on the cursor of the try.
+     */
+    private static final String JACKSON_CALLS = "JACKSON_CALLS";
+
+    /**
+     * Whether the body of a try contains anything else that throws {@code IOException}, collected bottom-up
+     * in a message on the cursor of the body.
+     */
+    private static final String IO_SOURCES = "IO_SOURCES";
+
+    /**
+     * Where a try hands the collector of {@link #IO_SOURCES} to its body.
+     */
+    private static final String BODY_IO_SOURCES = "BODY_IO_SOURCES";
+
     final String displayName = "Replace `IOException` with `JacksonException` in catch clauses";
 
     final String description = "In Jackson 3, `ObjectMapper` and related classes no longer throw `IOException`. " +
@@ -58,24 +75,32 @@ public class IOExceptionToJacksonException extends Recipe {
 
     final Set<String> tags = singleton("jackson-3");
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(OBJECT_MAPPER_PATTERN),
-                        new UsesMethod<>(OBJECT_READER_PATTERN),
-                        new UsesMethod<>(OBJECT_WRITER_PATTERN)
-                ),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(
+                        new MethodMatcher(OBJECT_MAPPER_PATTERN),
+                        new MethodMatcher(OBJECT_READER_PATTERN),
+                        new MethodMatcher(OBJECT_WRITER_PATTERN)),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Try visitTry(J.Try tryStatement, ExecutionContext ctx) {
+                        AtomicBoolean jacksonCalls = new AtomicBoolean();
+                        AtomicBoolean ioSources = new AtomicBoolean();
+                        getCursor().putMessage(JACKSON_CALLS, jacksonCalls);
+                        getCursor().putMessage(BODY_IO_SOURCES, ioSources);
                         J.Try try_ = super.visitTry(tryStatement, ctx);
-                        if (FindMethods.find(try_, OBJECT_MAPPER_PATTERN).isEmpty() &&
-                                FindMethods.find(try_, OBJECT_READER_PATTERN).isEmpty() &&
-                                FindMethods.find(try_, OBJECT_WRITER_PATTERN).isEmpty()) {
+                        if (!jacksonCalls.get()) {
                             return try_;
                         }
-                        if (hasNonJacksonIOExceptionSource(try_)) {
+                        // An enclosing try contains every call in this one
+                        AtomicBoolean enclosing = getCursor().getParentOrThrow().getNearestMessage(JACKSON_CALLS);
+                        if (enclosing != null) {
+                            enclosing.set(true);
+                        }
+                        if (ioSources.get()) {
                             return addJacksonExceptionCatch(try_, ctx);
                         }
                         return try_.withCatches(ListUtils.map(try_.getCatches(), catch_ -> {
@@ -89,6 +114,84 @@ public class IOExceptionToJacksonException extends Recipe {
                         }));
                     }
 
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        Cursor parent = getCursor().getParentTreeCursor();
+                        AtomicBoolean ioSources = null;
+                        if (parent.getValue() instanceof J.Try && ((J.Try) parent.getValue()).getBody() == block) {
+                            ioSources = parent.getMessage(BODY_IO_SOURCES);
+                        } else if (parent.getValue() instanceof J.NewClass) {
+                            // Nothing thrown in an anonymous class body is thrown by the try
+                            ioSources = new AtomicBoolean();
+                        }
+                        if (ioSources == null) {
+                            return super.visitBlock(block, ctx);
+                        }
+                        getCursor().putMessage(IO_SOURCES, ioSources);
+                        J.Block b = super.visitBlock(block, ctx);
+                        if (ioSources.get() && parent.getValue() instanceof J.Try) {
+                            // The body of an enclosing try contains every call in this one
+                            AtomicBoolean enclosing = parent.getParentOrThrow().getNearestMessage(IO_SOURCES);
+                            if (enclosing != null) {
+                                enclosing.set(true);
+                            }
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public J.Lambda visitLambda(J.Lambda lambda, ExecutionContext ctx) {
+                        // Nothing thrown in a lambda body is thrown by the try
+                        getCursor().putMessage(IO_SOURCES, new AtomicBoolean());
+                        return super.visitLambda(lambda, ctx);
+                    }
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        getCursor().putMessage(IO_SOURCES, new AtomicBoolean());
+                        return super.visitClassDeclaration(classDecl, ctx);
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        if (OBJECT_MAPPER_MATCHER.matches(method) ||
+                                OBJECT_READER_MATCHER.matches(method) ||
+                                OBJECT_WRITER_MATCHER.matches(method)) {
+                            collect(JACKSON_CALLS);
+                        } else if (throwsIOException(method.getMethodType())) {
+                            collect(IO_SOURCES);
+                        }
+                        return super.visitMethodInvocation(method, ctx);
+                    }
+
+                    @Override
+                    public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        if (throwsIOException(newClass.getMethodType())) {
+                            collect(IO_SOURCES);
+                        }
+                        return super.visitNewClass(newClass, ctx);
+                    }
+
+                    @Override
+                    public J.Throw visitThrow(J.Throw thrown, ExecutionContext ctx) {
+                        JavaType type = thrown.getException().getType();
+                        if (type != null && TypeUtils.isAssignableTo(IO_EXCEPTION, type)) {
+                            collect(IO_SOURCES);
+                        }
+                        return super.visitThrow(thrown, ctx);
+                    }
+
+                    /**
+                     * Records a fact on the innermost try that collects it, which passes it on to the enclosing
+                     * tries once it has been visited.
+                     */
+                    private void collect(String fact) {
+                        AtomicBoolean holder = getCursor().getNearestMessage(fact);
+                        if (holder != null) {
+                            holder.set(true);
+                        }
+                    }
+
                     private J.Try addJacksonExceptionCatch(J.Try try_, ExecutionContext ctx) {
                         List<J.Try.Catch> catches = try_.getCatches();
                         if (catches.stream().anyMatch(IOExceptionToJacksonException::catchesJacksonException)) {
@@ -166,52 +269,8 @@ public class IOExceptionToJacksonException extends Recipe {
         return TypeUtils.isAssignableTo(JACKSON_EXCEPTION, catch_.getParameter().getType());
     }
 
-    private static boolean hasNonJacksonIOExceptionSource(J.Try try_) {
-        return new JavaIsoVisitor<AtomicBoolean>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean result) {
-                if (result.get()) {
-                    return method;
-                }
-                if (OBJECT_MAPPER_MATCHER.matches(method) ||
-                        OBJECT_READER_MATCHER.matches(method) ||
-                        OBJECT_WRITER_MATCHER.matches(method)) {
-                    return method;
-                }
-                JavaType.Method methodType = method.getMethodType();
-                if (methodType != null &&
-                        methodType.getThrownExceptions().stream()
-                                .anyMatch(te -> TypeUtils.isAssignableTo(IO_EXCEPTION, te))) {
-                    result.set(true);
-                }
-                return method;
-            }
-
-            @Override
-            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean result) {
-                if (result.get()) {
-                    return newClass;
-                }
-                JavaType.Method methodType = newClass.getMethodType();
-                if (methodType != null &&
-                        methodType.getThrownExceptions().stream()
-                                .anyMatch(te -> TypeUtils.isAssignableTo(IO_EXCEPTION, te))) {
-                    result.set(true);
-                }
-                return newClass;
-            }
-
-            @Override
-            public J.Throw visitThrow(J.Throw thrown, AtomicBoolean result) {
-                if (result.get()) {
-                    return thrown;
-                }
-                JavaType type = thrown.getException().getType();
-                if (type != null && TypeUtils.isAssignableTo(IO_EXCEPTION, type)) {
-                    result.set(true);
-                }
-                return thrown;
-            }
-        }.reduce(try_.getBody(), new AtomicBoolean(false)).get();
+    private static boolean throwsIOException(JavaType.@Nullable Method methodType) {
+        return methodType != null && methodType.getThrownExceptions().stream()
+                .anyMatch(te -> TypeUtils.isAssignableTo(IO_EXCEPTION, te));
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The rewrite a recipe in this package makes to individual method invocations, and optionally to declarations
+ * of and references to the same methods, so that it can run on its own or be dispatched to together with other
+ * rewrites from a single {@link Visitor}, as {@link MigrateJacksonApiCalls} does.
+ */
+abstract class InvocationRewrite {
+    private final String declaringType;
+    private final Set<String> methodNames;
+
+    /**
+     * @param declaringType The type that declares the methods this rewrite applies to. Invocations of
+     *                      overrides in subtypes are dispatched to the rewrite as well.
+     * @param methodNames   The names of the methods this rewrite applies to.
+     */
+    InvocationRewrite(String declaringType, String... methodNames) {
+        this.declaringType = declaringType;
+        this.methodNames = new HashSet<>(Arrays.asList(methodNames));
+    }
+
+    /**
+     * A precondition that source files containing invocations this rewrite applies to pass.
+     */
+    abstract TreeVisitor<?, ExecutionContext> precondition();
+
+    /**
+     * Rewrites an invocation of one of the methods this rewrite applies to, after its select and arguments
+     * have been visited.
+     *
+     * @return The invocation unchanged if the rewrite does not apply to it.
+     */
+    abstract @Nullable J rewrite(J.MethodInvocation method, Visitor visitor, ExecutionContext ctx);
+
+    /**
+     * Rewrites a declaration of one of the methods this rewrite applies to, such as one that overrides it,
+     * after its body has been visited.
+     *
+     * @return The declaration unchanged if the rewrite does not apply to it.
+     */
+    J.MethodDeclaration rewrite(J.MethodDeclaration method, Visitor visitor, ExecutionContext ctx) {
+        return method;
+    }
+
+    /**
+     * Rewrites a method reference to one of the methods this rewrite applies to.
+     *
+     * @return The method reference unchanged if the rewrite does not apply to it.
+     */
+    J rewrite(J.MemberReference memberRef, Visitor visitor, ExecutionContext ctx) {
+        return memberRef;
+    }
+
+    static TreeVisitor<?, ExecutionContext> precondition(List<InvocationRewrite> rewrites) {
+        if (rewrites.size() == 1) {
+            return rewrites.get(0).precondition();
+        }
+        List<TreeVisitor<?, ExecutionContext>> preconditions = new ArrayList<>();
+        for (InvocationRewrite rewrite : rewrites) {
+            preconditions.add(rewrite.precondition());
+        }
+        return Preconditions.or(preconditions.toArray(new TreeVisitor[0]));
+    }
+
+    /**
+     * Visits each method invocation, method declaration and method reference once, and hands it to the rewrites
+     * for its method name and declaring type, or any type it inherits the method from, in the order the rewrites
+     * were given in.
+     */
+    static class Visitor extends JavaVisitor<ExecutionContext> {
+        private final List<InvocationRewrite> order;
+
+        /**
+         * Keyed by method name and then by declaring type.
+         */
+        private final Map<String, Map<String, List<InvocationRewrite>>> rewrites = new HashMap<>();
+
+        Visitor(List<InvocationRewrite> rewrites) {
+            this.order = rewrites;
+            for (InvocationRewrite rewrite : rewrites) {
+                for (String methodName : rewrite.methodNames) {
+                    this.rewrites.computeIfAbsent(methodName, k -> new HashMap<>())
+                            .computeIfAbsent(rewrite.declaringType, k -> new ArrayList<>())
+                            .add(rewrite);
+                }
+            }
+        }
+
+        @Override
+        public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J j = super.visitMethodInvocation(method, ctx);
+            if (!(j instanceof J.MethodInvocation)) {
+                return j;
+            }
+            J.MethodInvocation mi = (J.MethodInvocation) j;
+            for (InvocationRewrite rewrite : candidates(mi.getSimpleName(), mi.getMethodType())) {
+                J rewritten = rewrite.rewrite(mi, this, ctx);
+                if (rewritten != mi) {
+                    return rewritten;
+                }
+            }
+            return mi;
+        }
+
+        @Override
+        public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J j = super.visitMethodDeclaration(method, ctx);
+            if (!(j instanceof J.MethodDeclaration)) {
+                return j;
+            }
+            J.MethodDeclaration md = (J.MethodDeclaration) j;
+            for (InvocationRewrite rewrite : candidates(md.getSimpleName(), md.getMethodType())) {
+                J.MethodDeclaration rewritten = rewrite.rewrite(md, this, ctx);
+                if (rewritten != md) {
+                    return rewritten;
+                }
+            }
+            return md;
+        }
+
+        @Override
+        public J visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+            J j = super.visitMemberReference(memberRef, ctx);
+            if (!(j instanceof J.MemberReference)) {
+                return j;
+            }
+            J.MemberReference mr = (J.MemberReference) j;
+            for (InvocationRewrite rewrite : candidates(mr.getReference().getSimpleName(), mr.getMethodType())) {
+                J rewritten = rewrite.rewrite(mr, this, ctx);
+                if (rewritten != mr) {
+                    return rewritten;
+                }
+            }
+            return mr;
+        }
+
+        private List<InvocationRewrite> candidates(String methodName, JavaType.@Nullable Method methodType) {
+            Map<String, List<InvocationRewrite>> byDeclaringType = rewrites.get(methodName);
+            if (byDeclaringType == null || methodType == null) {
+                return emptyList();
+            }
+            return candidates(methodType.getDeclaringType(), byDeclaringType);
+        }
+
+        private List<InvocationRewrite> candidates(JavaType.FullyQualified declaringType,
+                                                   Map<String, List<InvocationRewrite>> byDeclaringType) {
+            if (byDeclaringType.size() == 1 && byDeclaringType.containsKey(declaringType.getFullyQualifiedName())) {
+                return byDeclaringType.get(declaringType.getFullyQualifiedName());
+            }
+            List<InvocationRewrite> candidates = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            Deque<JavaType.FullyQualified> types = new ArrayDeque<>();
+            types.add(declaringType);
+            while (!types.isEmpty()) {
+                JavaType.FullyQualified type = types.poll();
+                if (!seen.add(type.getFullyQualifiedName())) {
+                    continue;
+                }
+                List<InvocationRewrite> declared = byDeclaringType.get(type.getFullyQualifiedName());
+                if (declared != null) {
+                    candidates.addAll(declared);
+                }
+                if (type.getSupertype() != null) {
+                    types.add(type.getSupertype());
+                }
+                types.addAll(type.getInterfaces());
+            }
+            // Keep the order the rewrites were given in, whichever type declares their method
+            candidates.sort(Comparator.comparingInt(order::indexOf));
+            return candidates;
+        }
+    }
+}
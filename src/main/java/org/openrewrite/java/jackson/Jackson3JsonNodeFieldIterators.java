@@ -16,17 +16,22 @@
 package org.openrewrite.java.jackson;
 
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.ChangeMethodName;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.Space;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 
 public class Jackson3JsonNodeFieldIterators extends Recipe {
 
@@ -34,47 +39,107 @@ public class Jackson3JsonNodeFieldIterators extends Recipe {
     private static final MethodMatcher FIELDS_NAMES = new MethodMatcher("com.fasterxml.jackson.databind.JsonNode fieldNames()", true);
     private static final MethodMatcher ELEMENTS = new MethodMatcher("com.fasterxml.jackson.databind.JsonNode elements()", true);
 
+    /**
+     * The Jackson 3 name of each method, and the collection type it returns.
+     */
+    private static final Map<String, String[]> RENAMES = new HashMap<>();
+
+    static {
+        RENAMES.put("fields", new String[]{"properties", "java.util.Set"});
+        RENAMES.put("fieldNames", new String[]{"propertyNames", "java.util.Collection"});
+        RENAMES.put("elements", new String[]{"values", "java.util.Collection"});
+    }
+
+    private static final String COLLECTION_TYPES = Jackson3JsonNodeFieldIterators.class.getName() + ".COLLECTION_TYPES";
+
     @Getter
     final String displayName = "Migrate `JSONNode` field iterator for Jackson 3";
 
     @Getter
     final String description = "`JSONNode` fields are using `Collections` instead of `Iterator` singe Jackson 3. " +
-            "To mimic Jackson 2s behavior an additional call to `Collection#iterator()`is needed.";
+            "To mimic Jackson 2s behavior an additional call to `Collection#iterator()`is needed. Overriding " +
+            "declarations and method references are renamed.";
+
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    /**
+     * Shared with {@link MigrateJacksonApiCalls}.
+     */
+    static final InvocationRewrite REWRITE = new InvocationRewrite("com.fasterxml.jackson.databind.JsonNode",
+            "fields", "fieldNames", "elements") {
+        @Override
+        TreeVisitor<?, ExecutionContext> precondition() {
+            return JacksonUsageIndex.usesMethod(
+                    FIELDS,
+                    FIELDS_NAMES,
+                    ELEMENTS);
+        }
+
+        @Override
+        J rewrite(J.MethodInvocation mi, InvocationRewrite.Visitor visitor, ExecutionContext ctx) {
+            if (!FIELDS.matches(mi) && !FIELDS_NAMES.matches(mi) && !ELEMENTS.matches(mi) || mi.getMethodType() == null) {
+                return mi;
+            }
+            // The types are shared by every match on the same method in a source file
+            JavaType.Method[] types = visitor.getCursor().getRoot()
+                    .<Map<JavaType.Method, JavaType.Method[]>>computeMessageIfAbsent(COLLECTION_TYPES, k -> new IdentityHashMap<>())
+                    .computeIfAbsent(mi.getMethodType(), Jackson3JsonNodeFieldIterators::collectionTypes);
+            J.MethodInvocation collection = mi
+                    .withName(mi.getName().withSimpleName(types[0].getName()).withType(types[0]))
+                    .withMethodType(types[0]);
+            return new J.MethodInvocation(Tree.randomId(), mi.getPrefix(), mi.getMarkers(),
+                    JRightPadded.build(collection.withPrefix(Space.EMPTY)), null,
+                    new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), "iterator", types[1], null),
+                    JContainer.build(Space.EMPTY,
+                            singletonList(JRightPadded.build(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY))),
+                            Markers.EMPTY),
+                    types[1]);
+        }
+
+        @Override
+        J.MethodDeclaration rewrite(J.MethodDeclaration md, InvocationRewrite.Visitor visitor, ExecutionContext ctx) {
+            // Overrides keep their return type, like ChangeMethodName would leave them
+            JavaType.Method renamed = renamed(md.getMethodType());
+            return renamed == null ? md :
+                    md.withName(md.getName().withSimpleName(renamed.getName())).withMethodType(renamed);
+        }
+
+        @Override
+        J rewrite(J.MemberReference mr, InvocationRewrite.Visitor visitor, ExecutionContext ctx) {
+            JavaType.Method renamed = renamed(mr.getMethodType());
+            return renamed == null ? mr :
+                    mr.withReference(mr.getReference().withSimpleName(renamed.getName())).withMethodType(renamed);
+        }
+
+        private JavaType.@Nullable Method renamed(JavaType.@Nullable Method method) {
+            if (method == null || !FIELDS.matches(method) && !FIELDS_NAMES.matches(method) && !ELEMENTS.matches(method)) {
+                return null;
+            }
+            return method.withName(RENAMES.get(method.getName())[0]);
+        }
+    };
+
+    /**
+     * The types of the renamed method, which returns a collection in Jackson 3, and of the {@code iterator()}
+     * called on that collection, which returns what the Jackson 2 method did.
+     */
+    private static JavaType.Method[] collectionTypes(JavaType.Method iteratorMethod) {
+        String[] rename = RENAMES.get(iteratorMethod.getName());
+        JavaType.FullyQualified collection = JavaType.ShallowClass.build(rename[1]);
+        JavaType.Parameterized iterator = TypeUtils.asParameterized(iteratorMethod.getReturnType());
+        if (iterator != null) {
+            collection = new JavaType.Parameterized(null, collection, iterator.getTypeParameters());
+        }
+        return new JavaType.Method[]{
+                iteratorMethod.withName(rename[0]).withReturnType(collection),
+                iteratorMethod.withName("iterator").withDeclaringType(collection)
+        };
+    }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(FIELDS),
-                        new UsesMethod<>(FIELDS_NAMES),
-                        new UsesMethod<>(ELEMENTS)),
-                new JavaIsoVisitor<ExecutionContext>() {
-                    @Override
-                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-
-                        if (FIELDS.matches(mi)) {
-                            doAfterVisit(new ChangeMethodName("com.fasterxml.jackson.databind.JsonNode fields()", "properties", true, null).getVisitor());
-                            return addCallToChain("java.util.Collections.<String, JsonNode>emptyMap().entrySet().iterator()", mi);
-                        }
-                        if (FIELDS_NAMES.matches(mi)) {
-                            doAfterVisit(new ChangeMethodName("com.fasterxml.jackson.databind.JsonNode fieldNames()", "propertyNames", true, null).getVisitor());
-                            return addCallToChain("java.util.Collections.<String>emptySet().iterator()", mi);
-                        }
-                        if (ELEMENTS.matches(mi)) {
-                            doAfterVisit(new ChangeMethodName("com.fasterxml.jackson.databind.JsonNode elements()", "values", true, null).getVisitor());
-                            return addCallToChain("java.util.Collections.<JsonNode>emptySet().iterator()", mi);
-                        }
-
-                        return mi;
-                    }
-
-                    private J.MethodInvocation addCallToChain(String template, J.MethodInvocation mi) {
-                        // because we use this as intermediate and overwrite all interesting types manually later, we need no CL here
-                        J.MethodInvocation iteratorCall = JavaTemplate.apply(template, updateCursor(mi), mi.getCoordinates().replace());
-                        return iteratorCall.withSelect(mi).withPrefix(Space.EMPTY);
-                    }
-                }
-        );
+        return JacksonRecipeMetrics.check(this, performance,
+                REWRITE.precondition(),
+                new InvocationRewrite.Visitor(singletonList(REWRITE)));
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.internal.parser.JavaParserExecutionContextView;
+
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Template parsers for the recipes in this package. The jars for each distinct set of resources are
+ * resolved from the type tables once per {@link ExecutionContext}, and shared by every recipe that
+ * builds templates against them, rather than once per template.
+ * <p>
+ * Resolving a set of resources inflates {@code META-INF/rewrite/classpath.tsv.gz}, which holds the type
+ * tables of every artifact templates are parsed against. The jars are also remembered for the life of the
+ * JVM behind soft references, so a later run with a new execution context doesn't inflate the type tables
+ * again while the jars still exist.
+ * <p>
+ * The type tables aren't split per artifact: the recipe library build plugin writes them to the one resource,
+ * and {@code TypeTable} only reads them from there, so resolving any set of resources still inflates all of them.
+ */
+final class JacksonClasspath {
+
+    private static final String CLASSPATHS = JacksonClasspath.class.getName() + ".CLASSPATHS";
+
+    private static final Map<String, SoftReference<List<Path>>> RESOLVED = new ConcurrentHashMap<>();
+
+    private JacksonClasspath() {
+    }
+
+    /**
+     * Equivalent to {@code JavaParser.fromJavaVersion().classpathFromResources(ctx, resources)}. The returned
+     * builder is new on every call, so it can be given further dependencies without affecting other templates.
+     */
+    static JavaParser.Builder<?, ?> parser(ExecutionContext ctx, String... resources) {
+        return JavaParser.fromJavaVersion().classpath(classpath(ctx, resources));
+    }
+
+    private static List<Path> classpath(ExecutionContext ctx, String... resources) {
+        Map<String, List<Path>> classpaths = ctx.computeMessageIfAbsent(CLASSPATHS, k -> new ConcurrentHashMap<>());
+        String[] sorted = resources.clone();
+        Arrays.sort(sorted);
+        // The jars are written to the download target of the execution context
+        String key = JavaParserExecutionContextView.view(ctx).getParserClasspathDownloadTarget() + "\u0000" +
+                     String.join(",", sorted);
+        return classpaths.computeIfAbsent(key, k -> {
+            // Classpaths of different resources can share jars, which mustn't be written by two threads at once
+            synchronized (RESOLVED) {
+                List<Path> classpath = resolved(k);
+                if (classpath == null) {
+                    classpath = JavaParser.dependenciesFromResources(ctx, resources);
+                    RESOLVED.put(k, new SoftReference<>(classpath));
+                }
+                return classpath;
+            }
+        });
+    }
+
+    private static @Nullable List<Path> resolved(String key) {
+        SoftReference<List<Path>> reference = RESOLVED.get(key);
+        List<Path> classpath = reference == null ? null : reference.get();
+        if (classpath == null) {
+            return null;
+        }
+        for (Path jar : classpath) {
+            if (!Files.exists(jar)) {
+                return null;
+            }
+        }
+        return classpath;
+    }
+}
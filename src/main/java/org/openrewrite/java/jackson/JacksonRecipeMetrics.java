@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Instrumentation for the recipes in this package. Each recipe wraps its visitor with
+ * {@link #check(Recipe, JacksonRecipePerformance, TreeVisitor, TreeVisitor)} in place of
+ * {@link Preconditions#check(TreeVisitor, TreeVisitor)}. When {@link JacksonRecipePerformance#ENABLED} is set
+ * in the execution context, a row is written to {@link JacksonRecipePerformance} for every Java or Kotlin source
+ * file the recipe is run against in the first cycle, and for every one it changes in a later cycle.
+ */
+final class JacksonRecipeMetrics {
+
+    /**
+     * The visit of a source file by the recipe that is visiting it on this thread. A source file is visited on
+     * one thread, but several source files may be visited at once with the same {@link ExecutionContext}, so
+     * the visit isn't kept there.
+     */
+    private static final ThreadLocal<@Nullable Visit> VISIT = new ThreadLocal<>();
+
+    /**
+     * Guards the rows inserted into {@link JacksonRecipePerformance} by source files visited at once.
+     */
+    private static final Object ROWS = new Object();
+
+    private static final com.sun.management.@Nullable ThreadMXBean THREADS = threads();
+
+    private JacksonRecipeMetrics() {
+    }
+
+    /**
+     * Behaves like {@link Preconditions#check(TreeVisitor, TreeVisitor)}, additionally recording
+     * whether the precondition matched, the time spent, the bytes allocated, the number of templates built
+     * and the number of follow-up passes scheduled.
+     */
+    static TreeVisitor<?, ExecutionContext> check(Recipe recipe, JacksonRecipePerformance performance,
+                                                  TreeVisitor<?, ExecutionContext> precondition,
+                                                  TreeVisitor<?, ExecutionContext> visitor) {
+        return new Instrumented(recipe, performance, precondition, () -> visitor, visitor::isAcceptable);
+    }
+
+    /**
+     * Like {@link #check(Recipe, JacksonRecipePerformance, TreeVisitor, TreeVisitor)}, with a new visitor for
+     * every source file, so that the returned visitor can visit several source files at once. The visitors
+     * must accept the source files a {@link JavaVisitor} does, which is decided without creating one.
+     */
+    static TreeVisitor<?, ExecutionContext> check(Recipe recipe, JacksonRecipePerformance performance,
+                                                  TreeVisitor<?, ExecutionContext> precondition,
+                                                  Supplier<? extends JavaVisitor<ExecutionContext>> visitor) {
+        return new Instrumented(recipe, performance, precondition, visitor,
+                (sourceFile, ctx) -> sourceFile instanceof JavaSourceFile);
+    }
+
+    /**
+     * Records metrics for a visitor that has no precondition of its own.
+     */
+    static TreeVisitor<?, ExecutionContext> instrument(Recipe recipe, JacksonRecipePerformance performance,
+                                                       TreeVisitor<?, ExecutionContext> visitor) {
+        return new Instrumented(recipe, performance, null, () -> visitor, visitor::isAcceptable);
+    }
+
+    /**
+     * Called wherever a recipe compiles a {@code JavaTemplate}, so template construction shows up
+     * against the recipe and source file that caused it.
+     */
+    static void templateBuilt() {
+        count(0);
+    }
+
+    /**
+     * Called wherever a recipe schedules a visitor with {@code doAfterVisit} that passes over the whole
+     * source file again.
+     */
+    static void followUpScheduled() {
+        count(1);
+    }
+
+    private static void count(int index) {
+        Visit visit = VISIT.get();
+        if (visit != null) {
+            visit.counts[index]++;
+        }
+    }
+
+    /**
+     * What a recipe did while visiting a source file, excluding what other instrumented recipes did in
+     * visits nested in it, such as the follow-up passes it scheduled. Those are reported in rows of their own,
+     * so that aggregating by recipe counts everything once.
+     */
+    private static class Visit {
+        /**
+         * The number of templates built and follow-up passes scheduled, in that order.
+         */
+        final int[] counts = {0, 0};
+
+        long nestedNanos;
+
+        long nestedBytes;
+    }
+
+    private static class Instrumented extends TreeVisitor<Tree, ExecutionContext> {
+        private final Recipe recipe;
+        private final JacksonRecipePerformance performance;
+        private final @Nullable TreeVisitor<?, ExecutionContext> precondition;
+        private final Supplier<? extends TreeVisitor<?, ExecutionContext>> visitor;
+        private final BiPredicate<SourceFile, ExecutionContext> acceptable;
+
+        Instrumented(Recipe recipe, JacksonRecipePerformance performance,
+                     @Nullable TreeVisitor<?, ExecutionContext> precondition,
+                     Supplier<? extends TreeVisitor<?, ExecutionContext>> visitor,
+                     BiPredicate<SourceFile, ExecutionContext> acceptable) {
+            this.recipe = recipe;
+            this.performance = performance;
+            this.precondition = precondition;
+            this.visitor = visitor;
+            this.acceptable = acceptable;
+        }
+
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return acceptable.test(sourceFile, ctx);
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            // Like Preconditions.Check, only evaluate the precondition from the root of a source file
+            if (!(tree instanceof SourceFile)) {
+                return visitor.get().visit(tree, ctx);
+            }
+            if (!ctx.getMessage(JacksonRecipePerformance.ENABLED, false)) {
+                return precondition == null || precondition.visit(tree, ctx) != tree ?
+                        visitor.get().visit(tree, ctx) :
+                        tree;
+            }
+
+            Visit outer = VISIT.get();
+            Visit visit = new Visit();
+            long startBytes = allocatedBytes();
+            long start = System.nanoTime();
+            boolean matched;
+            Tree result = tree;
+            VISIT.set(visit);
+            try {
+                matched = precondition == null || precondition.visit(tree, ctx) != tree;
+                if (matched) {
+                    result = visitor.get().visit(tree, ctx);
+                }
+            } finally {
+                if (outer != null) {
+                    VISIT.set(outer);
+                } else {
+                    VISIT.remove();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = startBytes < 0 ? -1 : allocatedBytes() - startBytes;
+            if (outer != null) {
+                outer.nestedNanos += elapsed;
+                outer.nestedBytes += Math.max(allocated, 0);
+            }
+            boolean changed = result != tree;
+            // After the first cycle, only report the changes that needed another cycle to be made
+            if (tree instanceof JavaSourceFile && (ctx.getCycle() <= 1 || changed)) {
+                insertRow(ctx, performance, new JacksonRecipePerformance.Row(
+                        ((JavaSourceFile) tree).getSourcePath().toString(),
+                        recipe.getName(),
+                        matched,
+                        elapsed - visit.nestedNanos,
+                        allocated < 0 ? -1 : allocated - visit.nestedBytes,
+                        visit.counts[0],
+                        visit.counts[1],
+                        changed,
+                        ctx.getCycle()));
+            }
+            return result;
+        }
+    }
+
+    private static void insertRow(ExecutionContext ctx, JacksonRecipePerformance performance,
+                                  JacksonRecipePerformance.Row row) {
+        synchronized (ROWS) {
+            performance.insertRow(ctx, row);
+        }
+    }
+
+    /**
+     * The bytes allocated by the current thread so far, or {@code -1} if the JVM doesn't measure them.
+     */
+    private static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.@Nullable ThreadMXBean threads() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+            if (allocation.isThreadAllocatedMemorySupported() && allocation.isThreadAllocatedMemoryEnabled()) {
+                return allocation;
+            }
+        }
+        return null;
+    }
+}
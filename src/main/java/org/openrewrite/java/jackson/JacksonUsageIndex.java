@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypesInUse;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * The types, annotation types and methods a source file refers to, computed once per source file and
+ * shared by the preconditions of every recipe in this package, which decide whether they apply with set
+ * lookups rather than each walking the {@link TypesInUse} of the source file again.
+ * <p>
+ * The index of the last source file seen is kept in the {@link ExecutionContext}. Recipes that run one after
+ * the other against a source file that none of them changes all get the same index.
+ */
+final class JacksonUsageIndex {
+
+    private static final String LAST_INDEXED = JacksonUsageIndex.class.getName() + ".LAST_INDEXED";
+
+    private static final Pattern LITERAL_METHOD_NAME = Pattern.compile("[\\w<>]+");
+
+    /**
+     * The fully qualified names of the types in use, including annotation types and imported types.
+     */
+    private final Set<String> types = new HashSet<>();
+
+    /**
+     * The packages of the types in use, and of all imports.
+     */
+    private final Set<String> packages = new HashSet<>();
+
+    /**
+     * Keyed by method name.
+     */
+    private final Map<String, List<JavaType.Method>> usedMethods = new HashMap<>();
+
+    /**
+     * Keyed by method name.
+     */
+    private final Map<String, List<JavaType.Method>> declaredMethods = new HashMap<>();
+
+    private JacksonUsageIndex(JavaSourceFile sourceFile) {
+        TypesInUse typesInUse = sourceFile.getTypesInUse();
+        for (JavaType type : typesInUse.getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                JavaType.FullyQualified fq = (JavaType.FullyQualified) type;
+                types.add(fq.getFullyQualifiedName());
+                packages.add(fq.getPackageName());
+            }
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            packages.add(anImport.getPackageName());
+            if (!"*".equals(anImport.getQualid().getSimpleName())) {
+                types.add(anImport.getTypeName());
+            }
+        }
+        for (JavaType.Method method : typesInUse.getUsedMethods()) {
+            usedMethods.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+        }
+        for (JavaType.Method method : typesInUse.getDeclaredMethods()) {
+            declaredMethods.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+        }
+    }
+
+    static JacksonUsageIndex of(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        LastIndexed last = ctx.getMessage(LAST_INDEXED);
+        // Source files are equal when their ids are, so a changed source file has to be told apart by identity
+        if (last != null && last.sourceFile == sourceFile) {
+            return last.index;
+        }
+        JacksonUsageIndex index = new JacksonUsageIndex(sourceFile);
+        ctx.putMessage(LAST_INDEXED, new LastIndexed(sourceFile, index));
+        return index;
+    }
+
+    /**
+     * Equivalent to {@link org.openrewrite.java.search.UsesType} without implicit types, for any of the
+     * given fully qualified type names, or package names followed by {@code .*}.
+     */
+    static TreeVisitor<?, ExecutionContext> usesType(String... typeNames) {
+        return new Check(index -> {
+            for (String typeName : typeNames) {
+                if (typeName.endsWith(".*") ?
+                        index.packages.contains(typeName.substring(0, typeName.length() - 2)) :
+                        index.types.contains(typeName)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Equivalent to {@link org.openrewrite.java.search.UsesMethod} for any of the given matchers.
+     */
+    static TreeVisitor<?, ExecutionContext> usesMethod(MethodMatcher... matchers) {
+        return new Check(index -> index.matches(index.usedMethods, matchers));
+    }
+
+    /**
+     * Equivalent to {@link org.openrewrite.java.search.DeclaresMethod} for any of the given matchers.
+     */
+    static TreeVisitor<?, ExecutionContext> declaresMethod(MethodMatcher... matchers) {
+        return new Check(index -> index.matches(index.declaredMethods, matchers));
+    }
+
+    private boolean matches(Map<String, List<JavaType.Method>> methods, MethodMatcher[] matchers) {
+        for (MethodMatcher matcher : matchers) {
+            String methodName = matcher.getMethodNamePattern().pattern();
+            if (LITERAL_METHOD_NAME.matcher(methodName).matches()) {
+                if (anyMatch(matcher, methods.get(methodName))) {
+                    return true;
+                }
+            } else {
+                for (List<JavaType.Method> named : methods.values()) {
+                    if (anyMatch(matcher, named)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyMatch(MethodMatcher matcher, @Nullable List<JavaType.Method> methods) {
+        if (methods != null) {
+            for (JavaType.Method method : methods) {
+                if (matcher.matches(method)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static class LastIndexed {
+        final JavaSourceFile sourceFile;
+        final JacksonUsageIndex index;
+
+        LastIndexed(JavaSourceFile sourceFile, JacksonUsageIndex index) {
+            this.sourceFile = sourceFile;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Marks Java source files whose index passes the test, like the search visitors it replaces.
+     */
+    private static class Check extends TreeVisitor<Tree, ExecutionContext> {
+        private final Predicate<JacksonUsageIndex> test;
+
+        Check(Predicate<JacksonUsageIndex> test) {
+            this.test = test;
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            if (tree instanceof JavaSourceFile && test.test(of((JavaSourceFile) tree, ctx))) {
+                return SearchResult.found(tree);
+            }
+            return tree;
+        }
+    }
+}
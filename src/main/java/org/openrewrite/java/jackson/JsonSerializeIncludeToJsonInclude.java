@@ -18,15 +18,13 @@ package org.openrewrite.java.jackson;
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.J;
 
 import java.util.Comparator;
@@ -61,10 +59,12 @@ public class JsonSerializeIncludeToJsonInclude extends Recipe {
             "removed in Jackson 3.x; running this recipe before the Jackson 2 → 3 package rename produces " +
             "a correct `tools.jackson.annotation.JsonInclude` on the Jackson 3 side.";
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(COM_FASTERXML_JACKSON_DATABIND_ANNOTATION_JSON_SERIALIZE, false),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(COM_FASTERXML_JACKSON_DATABIND_ANNOTATION_JSON_SERIALIZE),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public J visitClassDeclaration(J.ClassDeclaration decl, ExecutionContext ctx) {
@@ -76,9 +76,10 @@ public class JsonSerializeIncludeToJsonInclude extends Recipe {
 
                         if (includeArgument.get() != null && !hasJsonIncludeSibling(cd.getLeadingAnnotations())) {
                             maybeAddImport(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE);
+                            JacksonRecipeMetrics.templateBuilt();
                             return JavaTemplate.builder("@JsonInclude(value = JsonInclude.Include." + includeArgument.get() + ")")
                                     .imports(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE)
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
+                                    .javaParser(JacksonClasspath.parser(ctx, "jackson-annotations"))
                                     .build()
                                     .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
                         }
@@ -96,9 +97,10 @@ public class JsonSerializeIncludeToJsonInclude extends Recipe {
 
                         if (includeArgument.get() != null && !hasJsonIncludeSibling(md.getLeadingAnnotations())) {
                             maybeAddImport(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE);
+                            JacksonRecipeMetrics.templateBuilt();
                             return JavaTemplate.builder("@JsonInclude(value = JsonInclude.Include." + includeArgument.get() + ")")
                                     .imports(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE)
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
+                                    .javaParser(JacksonClasspath.parser(ctx, "jackson-annotations"))
                                     .build()
                                     .apply(updateCursor(md), md.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
                         }
@@ -116,9 +118,10 @@ public class JsonSerializeIncludeToJsonInclude extends Recipe {
 
                         if (includeArgument.get() != null && !hasJsonIncludeSibling(vd.getLeadingAnnotations())) {
                             maybeAddImport(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE);
+                            JacksonRecipeMetrics.templateBuilt();
                             return JavaTemplate.builder("@JsonInclude(value = JsonInclude.Include." + includeArgument.get() + ")")
                                     .imports(COM_FASTERXML_JACKSON_ANNOTATION_JSON_INCLUDE)
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-annotations"))
+                                    .javaParser(JacksonClasspath.parser(ctx, "jackson-annotations"))
                                     .build()
                                     .apply(updateCursor(vd), vd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
                         }
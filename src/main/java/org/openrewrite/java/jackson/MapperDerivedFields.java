@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The {@code private static final} fields built from a mapper field, such as an {@code ObjectReader} or
+ * {@code ObjectWriter}, that the calls in one class are rewritten to go through.
+ */
+final class MapperDerivedFields {
+
+    private final J.Block classBody;
+    private final JavaSourceFile sourceFile;
+    private final Set<String> takenNames;
+    private final Map<String, String> existingFields;
+    private final Map<String, DerivedField> fields = new LinkedHashMap<>();
+    private final Set<String> imports = new LinkedHashSet<>();
+
+    /**
+     * The mapper fields that are configured outside of static initializers, computed on first use.
+     */
+    private @Nullable Set<String> reconfigured;
+
+    /**
+     * The signature of the method each rewritten call now invokes, keyed by the id of the reference to the
+     * field that is its new receiver.
+     */
+    private final Map<UUID, JavaType.Method> signatures = new HashMap<>();
+
+    /**
+     * @param classCursor a cursor pointing at the class declaration.
+     */
+    MapperDerivedFields(J.ClassDeclaration classDecl, Cursor classCursor) {
+        this.classBody = classDecl.getBody();
+        this.sourceFile = classCursor.firstEnclosingOrThrow(JavaSourceFile.class);
+        this.takenNames = StaticFieldSupport.declaredNames(classDecl);
+        this.existingFields = StaticFieldSupport.staticFinalFieldsByInitializer(classBody, new Cursor(classCursor, classBody));
+    }
+
+    @Value
+    private static class DerivedField {
+        String name;
+        String fullyQualifiedType;
+        String initializer;
+
+        /**
+         * The class body statement to declare the field after, or {@code null} to declare it first.
+         */
+        @Nullable
+        UUID after;
+    }
+
+    /**
+     * Whether a method that may change the mapper's configuration is called on the mapper field anywhere in the
+     * source file other than a static initializer. A field built from the mapper when the class is initialized
+     * would not see that change.
+     */
+    boolean isReconfigured(JavaType.Variable mapperField) {
+        if (reconfigured == null) {
+            reconfigured = new JavaIsoVisitor<Set<String>>() {
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<String> fields) {
+                    JavaType.Variable field = StaticFieldSupport.staticFinalField(method.getSelect());
+                    if (field != null && !HoistObjectMapperToStaticField.isReadOnly(method, getCursor()) &&
+                        !inStaticInitializer(getCursor())) {
+                        fields.add(key(field));
+                    }
+                    return super.visitMethodInvocation(method, fields);
+                }
+            }.reduce(sourceFile, new HashSet<>());
+        }
+        return reconfigured.contains(key(mapperField));
+    }
+
+    private static String key(JavaType.Variable field) {
+        JavaType.FullyQualified owner = TypeUtils.asFullyQualified(field.getOwner());
+        return (owner == null ? "" : owner.getFullyQualifiedName() + "#") + field.getName();
+    }
+
+    /**
+     * Whether the cursor is in a static initializer block or the initializer of a static field, and not in a
+     * lambda or class instance creation that may run later.
+     */
+    private static boolean inStaticInitializer(Cursor cursor) {
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            Object value = c.getValue();
+            if (value instanceof J.MethodDeclaration || value instanceof J.Lambda ||
+                value instanceof J.NewClass || value instanceof J.ClassDeclaration) {
+                return false;
+            }
+            if (value instanceof J.Block && ((J.Block) value).isStatic()) {
+                return true;
+            }
+            if (value instanceof J.VariableDeclarations && ((J.VariableDeclarations) value).hasModifier(J.Modifier.Type.Static)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The name of the field with the given initializer, reusing an existing {@code static final} field
+     * or one already requested for another call.
+     *
+     * @param mapperName the simple name of the mapper field the initializer is built from.
+     */
+    String fieldFor(String baseName, String fullyQualifiedType, String initializer, String mapperName) {
+        String key = StaticFieldSupport.initializerKey(initializer);
+        String existing = existingFields.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        DerivedField field = fields.get(key);
+        if (field == null) {
+            Statement after = StaticFieldSupport.lastInitializerReferencing(classBody, mapperName);
+            field = new DerivedField(StaticFieldSupport.uniqueName(baseName, takenNames), fullyQualifiedType,
+                    initializer, after == null ? null : after.getId());
+            fields.put(key, field);
+        }
+        return field.name;
+    }
+
+    /**
+     * A reference to a field, to be used as the receiver of a call that invokes a method with the given
+     * signature. The reference and the call are attributed by {@link #declare(J.ClassDeclaration, Cursor, ExecutionContext)}.
+     */
+    J.Identifier reference(Space prefix, String name, JavaType.Method signature) {
+        J.Identifier reference = new J.Identifier(Tree.randomId(), prefix, Markers.EMPTY, emptyList(), name, null, null);
+        signatures.put(reference.getId(), signature);
+        return reference;
+    }
+
+    boolean isEmpty() {
+        return signatures.isEmpty();
+    }
+
+    /**
+     * Records a type that a field initializer refers to by its simple name.
+     */
+    void requireImport(String fullyQualifiedType) {
+        imports.add(fullyQualifiedType);
+    }
+
+    /**
+     * The types of the declared fields and those their initializers refer to, which the caller is
+     * expected to pass to {@code maybeAddImport}.
+     */
+    Set<String> imports() {
+        Set<String> all = new LinkedHashSet<>();
+        for (DerivedField field : fields.values()) {
+            all.add(field.fullyQualifiedType);
+        }
+        all.addAll(imports);
+        return all;
+    }
+
+    /**
+     * Adds the requested fields to the class and attributes the references to them.
+     *
+     * @param parent a cursor pointing at the parent of the class declaration.
+     */
+    J.ClassDeclaration declare(J.ClassDeclaration classDecl, Cursor parent, ExecutionContext ctx) {
+        J.ClassDeclaration cd = classDecl;
+        List<DerivedField> declared = new ArrayList<>(fields.values());
+        String[] templateImports = imports().toArray(new String[0]);
+        // Fields after the same statement are inserted last to first, so they keep the order they were requested in
+        for (int i = declared.size() - 1; i >= 0; i--) {
+            DerivedField field = declared.get(i);
+            String version = field.fullyQualifiedType.startsWith("tools.") ? "-3" : "-2";
+            String simpleName = field.fullyQualifiedType.substring(field.fullyQualifiedType.lastIndexOf('.') + 1);
+            JacksonRecipeMetrics.templateBuilt();
+            cd = JavaTemplate.builder("private static final " + simpleName + " " + field.name + " = " + field.initializer + ";")
+                    .contextSensitive()
+                    .imports(templateImports)
+                    .javaParser(JacksonClasspath.parser(ctx,
+                            "jackson-annotations-2",
+                            "jackson-core" + version,
+                            "jackson-databind" + version))
+                    .build()
+                    .apply(new Cursor(parent, cd), StaticFieldSupport.insertionPoint(cd.getBody(), field.after));
+        }
+        cd = StaticFieldSupport.attributeFieldReferences(cd, signatures.keySet());
+        return StaticFieldSupport.attributeInvocationsOnFields(cd, signatures);
+    }
+}
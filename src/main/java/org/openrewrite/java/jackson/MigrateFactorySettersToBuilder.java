@@ -21,11 +21,10 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.search.SemanticallyEqual;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -40,7 +39,7 @@ public class MigrateFactorySettersToBuilder extends Recipe {
 
     private static final String JSON_FACTORY = "com.fasterxml.jackson.core.JsonFactory";
 
-    private static final List<String> ALL_FACTORIES = Arrays.asList(
+    static final List<String> ALL_FACTORIES = Arrays.asList(
             JSON_FACTORY,
             "com.fasterxml.jackson.dataformat.avro.AvroFactory",
             "com.fasterxml.jackson.dataformat.cbor.CBORFactory",
@@ -140,14 +139,14 @@ public class MigrateFactorySettersToBuilder extends Recipe {
             "the builder pattern when safe, or adds TODO comments when automatic migration is not possible.";
     final Set<String> tags = singleton("jackson-3");
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        TreeVisitor<?, ExecutionContext>[] preconditions = ALL_FACTORIES.stream()
-                .map(f -> new UsesType<>(f, false))
-                .toArray(TreeVisitor[]::new);
-        return Preconditions.check(
-                Preconditions.or(preconditions),
-                new JavaVisitor<ExecutionContext>() {
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(ALL_FACTORIES.toArray(new String[0])),
+                // A new visitor for every source file, so nothing is shared between source files
+                () -> new JavaVisitor<ExecutionContext>() {
 
                     @Override
                     public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
@@ -435,9 +434,9 @@ public class MigrateFactorySettersToBuilder extends Recipe {
                         // parser needs that FQN on its imports list to attribute the type. The
                         // user's source already imports XFactory (it appeared in `new XFactory()`),
                         // so we don't add a new import to the final compilation unit.
+                        JacksonRecipeMetrics.templateBuilt();
                         JavaTemplate.Builder templateBuilder = JavaTemplate.builder(templateCode.toString())
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, parserClasspathFor(factoryFqn)));
+                                .javaParser(JacksonClasspath.parser(ctx, parserClasspathFor(factoryFqn)));
                         if (useStaticBuilder) {
                             templateBuilder = templateBuilder.imports(factoryFqn);
                         } else {
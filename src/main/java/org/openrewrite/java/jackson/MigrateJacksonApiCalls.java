@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+
+import java.util.*;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class MigrateJacksonApiCalls extends Recipe {
+
+    /**
+     * Keyed by the name of the recipe each rewrite belongs to, in the order the recipes ran in when they were
+     * separate steps of {@code UpgradeJackson_2_3}.
+     */
+    private static final Map<String, InvocationRewrite> REWRITES = new LinkedHashMap<>();
+
+    static {
+        REWRITES.put(UseReadTreeAsValueInDeserializer.class.getName(), UseReadTreeAsValueInDeserializer.REWRITE);
+        REWRITES.put(Jackson3JsonNodeFieldIterators.class.getName(), Jackson3JsonNodeFieldIterators.REWRITE);
+        REWRITES.put(ReplaceObjectMapperCopy.class.getName(), ReplaceObjectMapperCopy.REWRITE);
+        REWRITES.put(ReplaceStreamWriteCapability.class.getName(), ReplaceStreamWriteCapability.REWRITE);
+        REWRITES.put(ReadValueUrlToOpenStream.class.getName(), ReadValueUrlToOpenStream.REWRITE);
+    }
+
+    @Option(displayName = "Recipes",
+            description = "Names of the recipes whose rewrites are applied, in order. Defaults to all of them.",
+            example = "org.openrewrite.java.jackson.ReplaceObjectMapperCopy",
+            required = false)
+    @Nullable
+    List<String> recipeNames;
+
+    String displayName = "Migrate removed Jackson 2 API calls in a single pass";
+
+    String description = "Apply the method invocation rewrites of `UseReadTreeAsValueInDeserializer`, " +
+            "`Jackson3JsonNodeFieldIterators`, `ReplaceObjectMapperCopy`, `ReplaceStreamWriteCapability` and " +
+            "`ReadValueUrlToOpenStream`, or the given subset of them, in one traversal of each source file. Each " +
+            "invocation is handed only to the rewrites for its method name and declaring type. The result is the " +
+            "same as running the recipes one after the other.";
+
+    Set<String> tags = singleton("jackson-3");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate();
+        if (recipeNames != null) {
+            for (String recipeName : recipeNames) {
+                validated = validated.and(Validated.test("recipeNames",
+                        "must name one of " + String.join(", ", REWRITES.keySet()),
+                        recipeName, REWRITES::containsKey));
+            }
+        }
+        return validated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        List<InvocationRewrite> rewrites = new ArrayList<>();
+        for (String recipeName : recipeNames == null ? REWRITES.keySet() : recipeNames) {
+            rewrites.add(REWRITES.get(recipeName));
+        }
+        return JacksonRecipeMetrics.check(this, performance,
+                InvocationRewrite.precondition(rewrites),
+                new InvocationRewrite.Visitor(rewrites));
+    }
+}
@@ -21,13 +21,14 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.search.SemanticallyEqual;
-import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.reverse;
@@ -43,7 +44,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
      * All format-aligned mapper types that support the builder pattern.
      * Includes JsonMapper and all format-specific mappers from UseFormatAlignedObjectMappers.
      */
-    private static final List<String> ALL_MAPPERS = Arrays.asList(
+    static final List<String> ALL_MAPPERS = Arrays.asList(
             JSON_MAPPER,
             "com.fasterxml.jackson.dataformat.avro.AvroMapper",
             "com.fasterxml.jackson.dataformat.cbor.CBORMapper",
@@ -64,6 +65,11 @@ public class MigrateMapperSettersToBuilder extends Recipe {
     }
 
     private static final String INVOCATIONS_TO_REMOVE = "INVOCATIONS_TO_REMOVE";
+    private static final String CHANGED_BLOCKS = "CHANGED_BLOCKS";
+    private static final String SETTERS_MOVED = "SETTERS_MOVED";
+    private static final String RECLAIMABLE_FINAL_DECLS = "RECLAIMABLE_FINAL_DECLS";
+    private static final String REFERENCE_INDEX = "REFERENCE_INDEX";
+    private static final String TEMPLATE_CACHE = MigrateMapperSettersToBuilder.class.getName() + ".TEMPLATE_CACHE";
     private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
     private static final String JACKSON_3_MIGRATION_GUIDE =
             "https://github.com/FasterXML/jackson/blob/main/jackson3/MIGRATING_TO_JACKSON_3.md" +
@@ -156,6 +162,23 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         static @Nullable SetterToBuilderMapping fromSetter(String name) {
             return BY_SETTER_NAME.get(name);
         }
+
+        /**
+         * The builder method that a call of this setter becomes. The Jackson 2 {@code MapperBuilder} has no
+         * {@code defaultPropertyInclusion(Include)}, only {@code serializationInclusion(Include)}, so that is
+         * used for an {@code Include} argument and resolves against the Jackson 2 classpath;
+         * {@link UpdateSerializationInclusionConfiguration} later converts it to {@code changeDefaultPropertyInclusion}.
+         */
+        String builderNameFor(J.MethodInvocation setter) {
+            if (this == SET_DEFAULT_PROPERTY_INCLUSION &&
+                    setter.getArguments().size() == 1 &&
+                    !(setter.getArguments().get(0) instanceof J.Empty) &&
+                    TypeUtils.isAssignableTo("com.fasterxml.jackson.annotation.JsonInclude$Include",
+                            setter.getArguments().get(0).getType())) {
+                return SET_SERIALIZATION_INCLUSION.builderName;
+            }
+            return builderName;
+        }
     }
 
     final String displayName = "Migrate mapper setter calls to builder pattern";
@@ -165,35 +188,69 @@ public class MigrateMapperSettersToBuilder extends Recipe {
             "pattern when safe, or adds TODO comments when automatic migration is not possible.";
     final Set<String> tags = singleton("jackson-3");
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        List<TreeVisitor<?, ExecutionContext>> preconditions = new ArrayList<>();
-        for (String mapper : ALL_MAPPERS) {
-            preconditions.add(new UsesType<>(mapper, false));
-        }
+        List<String> types = new ArrayList<>(ALL_MAPPERS);
         // https://github.com/openrewrite/rewrite/issues/7434
-        preconditions.add(new UsesType<>("com.fasterxml.jackson.databind.ObjectMapper", false));
-        preconditions.add(new UsesMethod<>(KOTLIN_EXTENSIONS_FQN + " " + JACKSON_OBJECT_MAPPER_NAME + "()", false));
-        Set<UUID> reclaimableFinalDecls = new HashSet<>();
-        return Preconditions.check(
-                Preconditions.or(preconditions.toArray(new TreeVisitor[0])),
-                new JavaVisitor<ExecutionContext>() {
+        types.add("com.fasterxml.jackson.databind.ObjectMapper");
+        return JacksonRecipeMetrics.check(this, performance,
+                Preconditions.or(
+                        JacksonUsageIndex.usesType(types.toArray(new String[0])),
+                        JacksonUsageIndex.usesMethod(new MethodMatcher(KOTLIN_EXTENSIONS_FQN + " " + JACKSON_OBJECT_MAPPER_NAME + "()"))),
+                // A new visitor for every source file, so nothing is shared between source files
+                () -> new JavaVisitor<ExecutionContext>() {
 
                     @Override
                     public J visitBlock(J.Block block, ExecutionContext ctx) {
                         J visited = super.visitBlock(block, ctx);
                         if (visited != block) {
-                            doAfterVisit(new UpdateSerializationInclusionConfiguration().getVisitor());
-                            doAfterVisit(new UpdateAutoDetectVisibilityConfiguration().getVisitor());
-                            doAfterVisit(coalesceRebuildAssignments());
-                            doAfterVisit(foldRebuildIntoInitializer());
-                            if (!reclaimableFinalDecls.isEmpty()) {
-                                doAfterVisit(unfinalizeDeclarations(reclaimableFinalDecls));
-                            }
+                            getCursor().getRoot().<Set<UUID>>computeMessageIfAbsent(CHANGED_BLOCKS, k -> new HashSet<>())
+                                    .add(block.getId());
                         }
                         return visited;
                     }
 
+                    @Override
+                    public J postVisit(J tree, ExecutionContext ctx) {
+                        if (!(tree instanceof JavaSourceFile)) {
+                            return super.postVisit(tree, ctx);
+                        }
+                        // Each follow-up passes over the whole file, so schedule it once per file rather than
+                        // once per changed block or mapper, after the fixups of individual mappers
+                        Cursor root = getCursor().getRoot();
+                        if (root.pollMessage(SETTERS_MOVED) != null) {
+                            scheduleFollowUp(inlineWrappedVariable());
+                            scheduleFollowUp(removeEmptyInitBlocks());
+                        }
+                        Set<UUID> changedBlocks = root.pollMessage(CHANGED_BLOCKS);
+                        Set<UUID> reclaimableFinalDecls = root.pollMessage(RECLAIMABLE_FINAL_DECLS);
+                        if (changedBlocks != null) {
+                            scheduleFollowUp(new UpdateSerializationInclusionConfiguration().getVisitor());
+                            scheduleFollowUp(new UpdateAutoDetectVisibilityConfiguration().getVisitor());
+                            scheduleFollowUp(coalesceRebuildAssignments(changedBlocks));
+                            scheduleFollowUp(foldRebuildIntoInitializer(changedBlocks));
+                            if (reclaimableFinalDecls != null) {
+                                scheduleFollowUp(unfinalizeDeclarations(reclaimableFinalDecls));
+                            }
+                        }
+                        return super.postVisit(tree, ctx);
+                    }
+
+                    private void scheduleFollowUp(TreeVisitor<?, ExecutionContext> followUp) {
+                        JacksonRecipeMetrics.followUpScheduled();
+                        doAfterVisit(followUp);
+                    }
+
+                    /**
+                     * Records that setters were moved into the builder of a mapper, which the follow-ups
+                     * {@link #inlineWrappedVariable()} and {@link #removeEmptyInitBlocks()} clean up after.
+                     */
+                    private void settersMoved() {
+                        getCursor().getRoot().putMessage(SETTERS_MOVED, true);
+                    }
+
                     @Override
                     public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                         J.NewClass nc = (J.NewClass) super.visitNewClass(newClass, ctx);
@@ -246,13 +303,12 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                             Statement mapperStmt = owner.getValue() instanceof J.VariableDeclarations.NamedVariable ?
                                     owner.firstEnclosing(J.VariableDeclarations.class) : owner.getValue();
                             if (mapperStmt != null) {
-                                doAfterVisit(relocateBeforeMapper(mapperStmt, movableStmts));
+                                scheduleFollowUp(relocateBeforeMapper(mapperStmt, movableStmts));
                             }
                         }
 
-                        doAfterVisit(inlineWrappedVariable());
-                        // Clean up empty init blocks after setter removal
-                        doAfterVisit(removeEmptyInitBlocks());
+                        // Inline wrapped variables and clean up empty init blocks after setter removal
+                        settersMoved();
 
                         return applyBuilderTemplate(mapperFqn, builderSetters, null, emptyList(),
                                 nc.getCoordinates().replace(), ctx);
@@ -305,7 +361,10 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                             if (declToUnfinalize != null) {
                                 J rebuilt = rewriteAsRebuildAssignment(mi, select, matchedMapper, mapping, ctx);
                                 if (rebuilt != null) {
-                                    reclaimableFinalDecls.add(declToUnfinalize);
+                                    // Kept with the source file, like the changed blocks, so that nothing outlives
+                                    // its visit or is shared between source files visited concurrently
+                                    getCursor().getRoot().<Set<UUID>>computeMessageIfAbsent(RECLAIMABLE_FINAL_DECLS, k -> new HashSet<>())
+                                            .add(declToUnfinalize);
                                     return rebuilt;
                                 }
                             }
@@ -338,20 +397,6 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                                 .anyMatch(t -> t.equals(commentText.trim()));
                     }
 
-                    private boolean argumentReferencesAny(J.MethodInvocation mi, Set<J.Identifier> intermediateVars) {
-                        return !new JavaIsoVisitor<Set<Boolean>>() {
-                            @Override
-                            public J.Identifier visitIdentifier(J.Identifier ident, Set<Boolean> set) {
-                                for (J.Identifier iv : intermediateVars) {
-                                    if (SemanticallyEqual.areEqual(ident, iv)) {
-                                        set.add(true);
-                                    }
-                                }
-                                return ident;
-                            }
-                        }.reduce(mi.getArguments(), new HashSet<>()).isEmpty();
-                    }
-
                     private boolean isCallOnVariable(J.MethodInvocation mi, J.Identifier varIdent) {
                         if (!(mi.getSelect() instanceof J.Identifier)) {
                             return false;
@@ -375,29 +420,6 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                         return TypeUtils.isAssignableTo("com.fasterxml.jackson.databind.ObjectMapper", returnType);
                     }
 
-                    private boolean referencesAnyVariable(Statement stmt, List<J.Identifier> varIdents) {
-                        for (J.Identifier varIdent : varIdents) {
-                            if (referencesVariable(stmt, varIdent)) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    }
-
-                    private boolean referencesVariable(Statement stmt, J.Identifier varIdent) {
-                        return !new JavaIsoVisitor<Set<Boolean>>() {
-                            @Override
-                            public J.Identifier visitIdentifier(J.Identifier ident, Set<Boolean> set) {
-                                // Use name + type comparison instead of SemanticallyEqual for Kotlin compatibility
-                                if (ident.getSimpleName().equals(varIdent.getSimpleName()) &&
-                                        TypeUtils.isOfType(ident.getType(), varIdent.getType())) {
-                                    set.add(true);
-                                }
-                                return ident;
-                            }
-                        }.reduce(stmt, new HashSet<>()).isEmpty();
-                    }
-
                     /**
                      * Check if this method invocation is the outermost call in a fluent chain
                      * (i.e., it is not itself the select of another method invocation).
@@ -505,12 +527,11 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                                         Statement mapperStmt = owner.getValue() instanceof J.VariableDeclarations.NamedVariable ?
                                                 owner.firstEnclosing(J.VariableDeclarations.class) : owner.getValue();
                                         if (mapperStmt != null) {
-                                            doAfterVisit(relocateBeforeMapper(mapperStmt, movableStmts));
+                                            scheduleFollowUp(relocateBeforeMapper(mapperStmt, movableStmts));
                                         }
                                     }
 
-                                    doAfterVisit(inlineWrappedVariable());
-                                    doAfterVisit(removeEmptyInitBlocks());
+                                    settersMoved();
                                 }
                             }
                         }
@@ -535,34 +556,22 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                             Set<J.Identifier> intermediateVars,
                             List<Statement> movableStmtsOut, boolean[] setterUsesIntermediateOut) {
                         List<J.MethodInvocation> setters = new ArrayList<>();
-                        boolean pastDeclaration = false;
+                        ReferenceIndex index = getCursor().dropParentUntil(J.Block.class::isInstance)
+                                .computeMessageIfAbsent(REFERENCE_INDEX, k -> new ReferenceIndex(block));
+                        int declaration = index.declarationIndex(varIdent);
+                        if (declaration < 0) {
+                            return setters;
+                        }
+                        List<Statement> statements = block.getStatements();
                         boolean collecting = true;
 
-                        for (Statement stmt : block.getStatements()) {
+                        // Start right after the declaration/assignment
+                        for (Statement stmt : statements.subList(declaration + 1, statements.size())) {
                             if (!collecting) {
                                 break;
                             }
 
-                            // Skip until we're past the declaration/assignment
-                            if (!pastDeclaration) {
-                                J.VariableDeclarations vd = extractVariableDeclarations(stmt);
-                                if (vd != null && vd.getVariables().stream()
-                                        .anyMatch(v -> SemanticallyEqual.areEqual(v.getName(), varIdent))) {
-                                    pastDeclaration = true;
-                                    continue;
-                                }
-                                if (stmt instanceof J.Assignment) {
-                                    J.Assignment a = (J.Assignment) stmt;
-                                    if (a.getVariable() instanceof J.Identifier &&
-                                            SemanticallyEqual.areEqual(a.getVariable(), varIdent)) {
-                                        pastDeclaration = true;
-                                        continue;
-                                    }
-                                }
-                                continue;
-                            }
-
-                            if (referencesAnyVariable(stmt, aliases)) {
+                            if (index.referencesAny(stmt, aliases)) {
                                 collecting = false;
                                 continue;
                             }
@@ -589,13 +598,14 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                                             collecting = false;
                                             continue;
                                         }
-                                        if (argumentReferencesAny(initMi, intermediateVars)) {
+                                        // The call's only other references are to the mapper and the setter's name
+                                        if (index.referencesAny(innerStmt, intermediateVars)) {
                                             setterUsesIntermediateOut[0] = true;
                                         }
                                         setters.add(initMi);
                                         continue;
                                     }
-                                    if (referencesVariable(innerStmt, varIdent)) {
+                                    if (index.references(innerStmt, varIdent)) {
                                         collecting = false;
                                     }
                                 }
@@ -610,14 +620,14 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                                     collecting = false;
                                     continue;
                                 }
-                                if (argumentReferencesAny(mi, intermediateVars)) {
+                                if (index.referencesAny(stmt, intermediateVars)) {
                                     setterUsesIntermediateOut[0] = true;
                                 }
                                 setters.add(mi);
                                 continue;
                             }
 
-                            if (referencesVariable(stmt, varIdent)) {
+                            if (index.references(stmt, varIdent)) {
                                 collecting = false;
                                 continue;
                             }
@@ -686,25 +696,25 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                         }
                         maybeAddImport(JSON_INCLUDE);
 
-                        JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx,
-                                        "jackson-annotations-2",
-                                        "jackson-core-2",
-                                        "jackson-databind-2")
-                                .dependsOn(mapperStub(mapperFqn, unknownSetters));
-                        if (useKotlinFactory) {
-                            parser = parser.dependsOn(kotlinExtensionsStub());
-                        }
+                        String stub = mapperStub(mapperFqn, unknownSetters);
+                        J built = cachedTemplate(ctx, templateCode.toString(), stub, useKotlinFactory, () -> {
+                            JavaParser.Builder<?, ?> parser = JacksonClasspath.parser(ctx,
+                                    "jackson-annotations-2",
+                                    "jackson-core-2",
+                                    "jackson-databind-2")
+                                    .dependsOn(stub);
+                            if (useKotlinFactory) {
+                                parser = parser.dependsOn(kotlinExtensionsStub());
+                            }
 
-                        JavaTemplate.Builder templateBuilder = JavaTemplate.builder(templateCode.toString())
-                                .imports(mapperFqn, JSON_INCLUDE)
-                                .javaParser(parser);
-                        if (useKotlinFactory) {
-                            templateBuilder = templateBuilder.staticImports(JACKSON_MAPPER_BUILDER_FQN);
-                        }
-                        J built = templateBuilder
-                                .build()
-                                .apply(getCursor(), coordinates, templateArgs.toArray());
+                            JavaTemplate.Builder templateBuilder = JavaTemplate.builder(templateCode.toString())
+                                    .imports(mapperFqn, JSON_INCLUDE)
+                                    .javaParser(parser);
+                            if (useKotlinFactory) {
+                                templateBuilder = templateBuilder.staticImports(JACKSON_MAPPER_BUILDER_FQN);
+                            }
+                            return templateBuilder.build();
+                        }).apply(getCursor(), coordinates, templateArgs.toArray());
 
                         // Reattach non-setter calls that followed the known setters by swapping
                         // each suffix's select to the previous result. Keeping the original
@@ -728,14 +738,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                     private @Nullable J rewriteAsRebuildAssignment(J.MethodInvocation mi, Expression select,
                                                                    String mapperFqn, SetterToBuilderMapping mapping,
                                                                    ExecutionContext ctx) {
-                        String builderName = mapping.builderName;
-                        if (mapping == SetterToBuilderMapping.SET_DEFAULT_PROPERTY_INCLUSION &&
-                                mi.getArguments().size() == 1 &&
-                                !(mi.getArguments().get(0) instanceof J.Empty) &&
-                                TypeUtils.isAssignableTo("com.fasterxml.jackson.annotation.JsonInclude$Include",
-                                        mi.getArguments().get(0).getType())) {
-                            builderName = "serializationInclusion";
-                        }
+                        String builderName = mapping.builderNameFor(mi);
                         StringBuilder templateCode = new StringBuilder();
                         templateCode.append("#{any(").append(mapperFqn).append(")} = #{any(")
                                 .append(mapperFqn).append(")}.rebuild()\n.").append(builderName).append("(");
@@ -759,23 +762,41 @@ public class MigrateMapperSettersToBuilder extends Recipe {
                         maybeAddImport(mapperFqn);
                         maybeAddImport(JSON_INCLUDE);
 
-                        JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx,
-                                        "jackson-annotations-2",
-                                        "jackson-core-2",
-                                        "jackson-databind-2")
-                                .dependsOn(mapperStub(mapperFqn, emptyList()));
-
-                        return JavaTemplate.builder(templateCode.toString())
-                                .imports(mapperFqn, JSON_INCLUDE)
-                                .javaParser(parser)
-                                .build()
-                                .apply(getCursor(), mi.getCoordinates().replace(), templateArgs.toArray());
+                        String stub = mapperStub(mapperFqn, emptyList());
+                        return cachedTemplate(ctx, templateCode.toString(), stub, false, () ->
+                                JavaTemplate.builder(templateCode.toString())
+                                        .imports(mapperFqn, JSON_INCLUDE)
+                                        .javaParser(JacksonClasspath.parser(ctx,
+                                                "jackson-annotations-2",
+                                                "jackson-core-2",
+                                                "jackson-databind-2")
+                                                .dependsOn(stub))
+                                        .build()
+                        ).apply(getCursor(), mi.getCoordinates().replace(), templateArgs.toArray());
                     }
                 }
         );
     }
 
+    /**
+     * Returns the compiled template for the given snippet, building it only the first time the
+     * combination is seen during this run. Every setter migration on the same mapper type with the
+     * same ordered builder calls produces an identical snippet and stub, so without the cache each
+     * call site would spin up a fresh parser over the full Jackson 2 classpath. The key is the
+     * mapper stub (mapper FQN plus the signatures of any setters the stub has to declare) and the
+     * template snippet itself, which spells out the builder methods in order and one placeholder
+     * per argument; nothing else feeds into the compiled template.
+     */
+    private static JavaTemplate cachedTemplate(ExecutionContext ctx, String templateCode, String mapperStub,
+                                               boolean kotlinFactory, Supplier<JavaTemplate> template) {
+        Map<String, JavaTemplate> cache = ctx.computeMessageIfAbsent(TEMPLATE_CACHE, k -> new ConcurrentHashMap<>());
+        String key = mapperStub + '\u0000' + kotlinFactory + '\u0000' + templateCode;
+        return cache.computeIfAbsent(key, k -> {
+            JacksonRecipeMetrics.templateBuilt();
+            return template.get();
+        });
+    }
+
     private static boolean isTopLevelStatement(Cursor cursor) {
         return cursor.getParentTreeCursor().getValue() instanceof J.Block;
     }
@@ -1016,10 +1037,14 @@ public class MigrateMapperSettersToBuilder extends Recipe {
 
     // Only fold when the reassignment is the immediately-following statement, so intervening reads
     // can't observe a different value after folding.
-    private static JavaIsoVisitor<ExecutionContext> foldRebuildIntoInitializer() {
+    private static JavaIsoVisitor<ExecutionContext> foldRebuildIntoInitializer(Set<UUID> changedBlocks) {
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                // A block that didn't change contains no block that did
+                if (!changedBlocks.contains(block.getId())) {
+                    return block;
+                }
                 J.Block b = super.visitBlock(block, ctx);
                 List<Statement> stmts = b.getStatements();
                 // A fold consumes a (declaration, reassignment) pair; the reassignment can never
@@ -1074,10 +1099,14 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         return null;
     }
 
-    private static JavaIsoVisitor<ExecutionContext> coalesceRebuildAssignments() {
+    private static JavaIsoVisitor<ExecutionContext> coalesceRebuildAssignments(Set<UUID> changedBlocks) {
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                // A block that didn't change contains no block that did
+                if (!changedBlocks.contains(block.getId())) {
+                    return block;
+                }
                 J.Block b = super.visitBlock(block, ctx);
                 List<Statement> stmts = b.getStatements();
                 if (stmts.size() < 2) {
@@ -1118,6 +1147,88 @@ public class MigrateMapperSettersToBuilder extends Recipe {
         };
     }
 
+    /**
+     * The variables that each statement of a block refers to, and the statements that declare or assign
+     * them, indexed once per block so that collecting the setters of every mapper in the block doesn't
+     * visit each of its statements again. Statements of initializer blocks are indexed too.
+     */
+    private static class ReferenceIndex {
+        private final Map<Statement, Map<String, List<@Nullable JavaType>>> references = new IdentityHashMap<>();
+        private final Map<String, List<Integer>> declarations = new HashMap<>();
+        private final List<Statement> statements;
+
+        ReferenceIndex(J.Block block) {
+            this.statements = block.getStatements();
+            for (int i = 0; i < statements.size(); i++) {
+                Statement stmt = statements.get(i);
+                index(stmt);
+                if (stmt instanceof J.Block) {
+                    for (Statement innerStmt : ((J.Block) stmt).getStatements()) {
+                        index(innerStmt);
+                    }
+                }
+
+                J.VariableDeclarations vd = extractVariableDeclarations(stmt);
+                if (vd != null) {
+                    for (J.VariableDeclarations.NamedVariable v : vd.getVariables()) {
+                        declarations.computeIfAbsent(v.getSimpleName(), k -> new ArrayList<>()).add(i);
+                    }
+                }
+                if (stmt instanceof J.Assignment && ((J.Assignment) stmt).getVariable() instanceof J.Identifier) {
+                    declarations.computeIfAbsent(((J.Identifier) ((J.Assignment) stmt).getVariable()).getSimpleName(),
+                            k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        private Map<String, List<@Nullable JavaType>> index(Statement stmt) {
+            return references.computeIfAbsent(stmt, k -> new JavaIsoVisitor<Map<String, List<@Nullable JavaType>>>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier ident, Map<String, List<@Nullable JavaType>> found) {
+                    found.computeIfAbsent(ident.getSimpleName(), n -> new ArrayList<>(1)).add(ident.getType());
+                    return ident;
+                }
+            }.reduce(stmt, new HashMap<>()));
+        }
+
+        /**
+         * The index of the first statement that declares or assigns the variable, or -1 if none does.
+         */
+        int declarationIndex(J.Identifier varIdent) {
+            for (int i : declarations.getOrDefault(varIdent.getSimpleName(), emptyList())) {
+                Statement stmt = statements.get(i);
+                J.VariableDeclarations vd = extractVariableDeclarations(stmt);
+                if (vd != null && vd.getVariables().stream()
+                        .anyMatch(v -> SemanticallyEqual.areEqual(v.getName(), varIdent))) {
+                    return i;
+                }
+                if (stmt instanceof J.Assignment && SemanticallyEqual.areEqual(((J.Assignment) stmt).getVariable(), varIdent)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean references(Statement stmt, J.Identifier varIdent) {
+            // Use name + type comparison instead of SemanticallyEqual for Kotlin compatibility
+            for (JavaType type : index(stmt).getOrDefault(varIdent.getSimpleName(), emptyList())) {
+                if (TypeUtils.isOfType(type, varIdent.getType())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean referencesAny(Statement stmt, Collection<J.Identifier> varIdents) {
+            for (J.Identifier varIdent : varIdents) {
+                if (references(stmt, varIdent)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     private static class RebuildParts {
         final J.Assignment assignment;
         final Expression lhs;
@@ -1803,18 +1914,7 @@ public class MigrateMapperSettersToBuilder extends Recipe {
      */
     private static void appendBuilderCall(J.MethodInvocation mi, SetterToBuilderMapping mapping,
                                            StringBuilder templateCode, List<Expression> templateArgs) {
-        String builderName = mapping.builderName;
-        // Jackson 2 MapperBuilder does not have defaultPropertyInclusion(Include), only
-        // serializationInclusion(Include). Use serializationInclusion here so the template
-        // resolves against the Jackson 2 classpath; UpdateSerializationInclusionConfiguration
-        // (running after) converts it to changeDefaultPropertyInclusion.
-        if (mapping == SetterToBuilderMapping.SET_DEFAULT_PROPERTY_INCLUSION &&
-                mi.getArguments().size() == 1 &&
-                !(mi.getArguments().get(0) instanceof J.Empty) &&
-                TypeUtils.isAssignableTo("com.fasterxml.jackson.annotation.JsonInclude$Include",
-                        mi.getArguments().get(0).getType())) {
-            builderName = "serializationInclusion";
-        }
+        String builderName = mapping.builderNameFor(mi);
         appendComments(mi.getPrefix().getComments(), templateCode);
         appendComments(mi.getName().getPrefix().getComments(), templateCode);
         if (mi.getPadding().getSelect() != null) {
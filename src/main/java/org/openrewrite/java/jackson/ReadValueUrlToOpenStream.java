@@ -17,16 +17,15 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.J;
 
+import static java.util.Collections.singletonList;
+
 /**
  * Migrates {@code ObjectMapper.readValue(URL, ...)} calls to feed
  * {@code URL.openStream()} into the surviving {@code readValue(InputStream, ...)}
@@ -53,28 +52,40 @@ public class ReadValueUrlToOpenStream extends Recipe {
             "`URL.openStream()` declares `IOException`, the same checked exception the removed " +
             "`readValue(URL, ...)` declared.";
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    /**
+     * Shared with {@link MigrateJacksonApiCalls}.
+     */
+    static final InvocationRewrite REWRITE = new InvocationRewrite("com.fasterxml.jackson.databind.ObjectMapper", "readValue") {
+        @Override
+        TreeVisitor<?, ExecutionContext> precondition() {
+            return JacksonUsageIndex.usesMethod(READ_VALUE_URL);
+        }
+
+        @Override
+        J rewrite(J.MethodInvocation mi, InvocationRewrite.Visitor visitor, ExecutionContext ctx) {
+            if (!READ_VALUE_URL.matches(mi) || mi.getSelect() == null) {
+                return mi;
+            }
+            JacksonRecipeMetrics.templateBuilt();
+            return JavaTemplate.builder("#{any(com.fasterxml.jackson.databind.ObjectMapper)}" +
+                            ".readValue(#{any(java.net.URL)}.openStream(), #{any()})")
+                    .contextSensitive()
+                    .javaParser(JacksonClasspath.parser(ctx,
+                            "jackson-databind-2",
+                            "jackson-core-2",
+                            "jackson-annotations-2"))
+                    .build()
+                    .apply(visitor.getCursor(), mi.getCoordinates().replace(),
+                            mi.getSelect(), mi.getArguments().get(0), mi.getArguments().get(1));
+        }
+    };
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesMethod<>(READ_VALUE_URL),
-                new JavaIsoVisitor<ExecutionContext>() {
-                    @Override
-                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                        if (!READ_VALUE_URL.matches(mi) || mi.getSelect() == null) {
-                            return mi;
-                        }
-                        return JavaTemplate.builder("#{any(com.fasterxml.jackson.databind.ObjectMapper)}" +
-                                        ".readValue(#{any(java.net.URL)}.openStream(), #{any()})")
-                                .contextSensitive()
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
-                                        "jackson-databind-2",
-                                        "jackson-core-2",
-                                        "jackson-annotations-2"))
-                                .build()
-                                .apply(getCursor(), mi.getCoordinates().replace(),
-                                        mi.getSelect(), mi.getArguments().get(0), mi.getArguments().get(1));
-                    }
-                });
+        return JacksonRecipeMetrics.check(this, performance,
+                REWRITE.precondition(),
+                new InvocationRewrite.Visitor(singletonList(REWRITE)));
     }
 }
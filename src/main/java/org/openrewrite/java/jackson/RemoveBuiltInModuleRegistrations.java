@@ -18,13 +18,12 @@ package org.openrewrite.java.jackson;
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -60,9 +59,11 @@ public class RemoveBuiltInModuleRegistrations extends Recipe {
     @Getter
     final Set<String> tags = singleton( "jackson-3" );
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(new UsesMethod<>(REGISTER_MODULE), new UsesMethod<>(ADD_MODULE)), new JavaVisitor<ExecutionContext>() {
+        return JacksonRecipeMetrics.check(this, performance, JacksonUsageIndex.usesMethod(REGISTER_MODULE, ADD_MODULE), new JavaVisitor<ExecutionContext>() {
                     @Override
                     public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         if ((REGISTER_MODULE.matches(method) || ADD_MODULE.matches(method)) &&
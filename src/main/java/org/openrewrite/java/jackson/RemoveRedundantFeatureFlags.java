@@ -21,14 +21,20 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType.FullyQualified;
+import org.openrewrite.properties.PropertiesVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.YamlVisitor;
+import org.openrewrite.yaml.tree.Yaml;
 
-import java.util.Set;
+import java.util.*;
 
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -63,8 +69,21 @@ public class RemoveRedundantFeatureFlags extends Recipe {
 
     Set<String> tags = singleton( "jackson-3" );
 
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.instrument(this, performance, visitor(singletonMap(featureName, newDefaultValue)));
+    }
+
+    /**
+     * Builds a visitor that removes redundant configuration for every feature in {@code newDefaults}
+     * in a single pass over each source file, looking each call or property up by feature name
+     * instead of re-running one visitor per feature.
+     *
+     * @param newDefaults feature names in {@code ClassName.FEATURE_NAME} form mapped to their Jackson 3 default.
+     */
+    static TreeVisitor<?, ExecutionContext> visitor(Map<String, Boolean> newDefaults) {
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree preVisit(Tree tree, ExecutionContext ctx) {
@@ -73,19 +92,25 @@ public class RemoveRedundantFeatureFlags extends Recipe {
                 if (tree instanceof SourceFile) {
                     SourceFile sourceFile = (SourceFile) tree;
 
-                    TreeVisitor<?, ExecutionContext> javaVisitor = javaVisitor();
+                    TreeVisitor<?, ExecutionContext> javaVisitor = javaVisitor(newDefaults);
                     if (javaVisitor.isAcceptable(sourceFile, ctx)) {
                         return javaVisitor.visitNonNull(tree, ctx);
                     }
 
-                    TreeVisitor<?, ExecutionContext> propertiesVisitor = propertiesVisitor();
-                    if (propertiesVisitor.isAcceptable(sourceFile, ctx)) {
-                        return propertiesVisitor.visitNonNull(tree, ctx);
+                    if (new PropertiesVisitor<ExecutionContext>().isAcceptable(sourceFile, ctx)) {
+                        Tree t = tree;
+                        for (Map.Entry<String, Boolean> feature : configuredFeatures(newDefaults, propertyKeyTails(sourceFile))) {
+                            t = propertiesVisitor(feature.getKey(), feature.getValue()).visitNonNull(t, ctx);
+                        }
+                        return t;
                     }
 
-                    TreeVisitor<?, ExecutionContext> yamlVisitor = yamlVisitor();
-                    if (yamlVisitor.isAcceptable(sourceFile, ctx)) {
-                        return yamlVisitor.visitNonNull(tree, ctx);
+                    if (new YamlVisitor<ExecutionContext>().isAcceptable(sourceFile, ctx)) {
+                        Tree t = tree;
+                        for (Map.Entry<String, Boolean> feature : configuredFeatures(newDefaults, yamlKeyTails(sourceFile))) {
+                            t = yamlVisitor(feature.getKey(), feature.getValue()).visitNonNull(t, ctx);
+                        }
+                        return t;
                     }
                 }
 
@@ -94,16 +119,15 @@ public class RemoveRedundantFeatureFlags extends Recipe {
         };
     }
 
-    private TreeVisitor<?, ExecutionContext> javaVisitor() {
+    private static TreeVisitor<?, ExecutionContext> javaVisitor(Map<String, Boolean> newDefaults) {
         return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(ENABLE_MATCHER),
-                        new UsesMethod<>(BUILDER_ENABLE_MATCHER),
-                        new UsesMethod<>(DISABLE_MATCHER),
-                        new UsesMethod<>(BUILDER_DISABLE_MATCHER),
-                        new UsesMethod<>(CONFIGURE_MATCHER),
-                        new UsesMethod<>(BUILDER_CONFIGURE_MATCHER)
-                ),
+                JacksonUsageIndex.usesMethod(
+                        ENABLE_MATCHER,
+                        BUILDER_ENABLE_MATCHER,
+                        DISABLE_MATCHER,
+                        BUILDER_DISABLE_MATCHER,
+                        CONFIGURE_MATCHER,
+                        BUILDER_CONFIGURE_MATCHER),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public @Nullable J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -135,21 +159,28 @@ public class RemoveRedundantFeatureFlags extends Recipe {
                     private boolean shouldRemove(J.MethodInvocation mi) {
                         if (ENABLE_MATCHER.matches(mi) || BUILDER_ENABLE_MATCHER.matches(mi)) {
                             // Remove enable() if the new default is true
-                            return newDefaultValue && featureName.equals(getFeatureNameFromArg(mi.getArguments().get(0)));
+                            return Boolean.TRUE.equals(newDefaultFor(mi));
                         }
                         if (DISABLE_MATCHER.matches(mi) || BUILDER_DISABLE_MATCHER.matches(mi)) {
                             // Remove disable() if the new default is false
-                            return !newDefaultValue && featureName.equals(getFeatureNameFromArg(mi.getArguments().get(0)));
+                            return Boolean.FALSE.equals(newDefaultFor(mi));
                         }
                         if (CONFIGURE_MATCHER.matches(mi) || BUILDER_CONFIGURE_MATCHER.matches(mi)) {
                             // configure() takes two arguments: feature and boolean value
-                            return mi.getArguments().size() == 2 &&
-                                    J.Literal.isLiteralValue(mi.getArguments().get(1), newDefaultValue) &&
-                                    featureName.equals(getFeatureNameFromArg(mi.getArguments().get(0)));
+                            if (mi.getArguments().size() != 2) {
+                                return false;
+                            }
+                            Boolean newDefault = newDefaultFor(mi);
+                            return newDefault != null && J.Literal.isLiteralValue(mi.getArguments().get(1), newDefault);
                         }
                         return false;
                     }
 
+                    private @Nullable Boolean newDefaultFor(J.MethodInvocation mi) {
+                        String featureName = getFeatureNameFromArg(mi.getArguments().get(0));
+                        return featureName == null ? null : newDefaults.get(featureName);
+                    }
+
                     private @Nullable String getFeatureNameFromArg(Expression arg) {
                         if (arg instanceof J.FieldAccess) {
                             J.FieldAccess fieldAccess = (J.FieldAccess) arg;
@@ -180,7 +211,45 @@ public class RemoveRedundantFeatureFlags extends Recipe {
                 });
     }
 
-    private TreeVisitor<?, ExecutionContext> propertiesVisitor() {
+    /**
+     * Narrows the features down to those whose constant name is the last segment of some property
+     * key in the file, so the per-key property visitors only run for keys that are actually there.
+     */
+    private static List<Map.Entry<String, Boolean>> configuredFeatures(Map<String, Boolean> newDefaults, Set<String> keyTails) {
+        List<Map.Entry<String, Boolean>> configured = new ArrayList<>();
+        if (keyTails.isEmpty()) {
+            return configured;
+        }
+        for (Map.Entry<String, Boolean> feature : newDefaults.entrySet()) {
+            if (keyTails.contains(feature.getKey().substring(feature.getKey().lastIndexOf('.') + 1))) {
+                configured.add(feature);
+            }
+        }
+        return configured;
+    }
+
+    private static Set<String> propertyKeyTails(SourceFile sourceFile) {
+        return new PropertiesVisitor<Set<String>>() {
+            @Override
+            public Properties visitEntry(Properties.Entry entry, Set<String> tails) {
+                tails.add(entry.getKey().substring(entry.getKey().lastIndexOf('.') + 1));
+                return entry;
+            }
+        }.reduce(sourceFile, new HashSet<>());
+    }
+
+    private static Set<String> yamlKeyTails(SourceFile sourceFile) {
+        return new YamlIsoVisitor<Set<String>>() {
+            @Override
+            public Yaml.Mapping.Entry visitMappingEntry(Yaml.Mapping.Entry entry, Set<String> tails) {
+                String key = entry.getKey().getValue();
+                tails.add(key.substring(key.lastIndexOf('.') + 1));
+                return super.visitMappingEntry(entry, tails);
+            }
+        }.reduce(sourceFile, new HashSet<>());
+    }
+
+    private static TreeVisitor<?, ExecutionContext> propertiesVisitor(String featureName, boolean newDefaultValue) {
         String propertyKey = "spring.jackson.mapper." + featureName.split("\\.")[1];
         return Preconditions.check(
                 // Only change if it does not already have the new default value
@@ -188,7 +257,7 @@ public class RemoveRedundantFeatureFlags extends Recipe {
                 new org.openrewrite.properties.DeleteProperty(propertyKey, false).getVisitor());
     }
 
-    private TreeVisitor<?, ExecutionContext> yamlVisitor() {
+    private static TreeVisitor<?, ExecutionContext> yamlVisitor(String featureName, boolean newDefaultValue) {
         String propertyKey = "spring.jackson.mapper." + featureName.split("\\.")[1];
         return Preconditions.check(
                 // Only change if it does not already have the new default value
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RemoveRedundantJackson3FeatureFlags extends Recipe {
+
+    /**
+     * Feature flags whose default changed in Jackson 3, mapped to their new default.
+     */
+    static final Map<String, Boolean> JACKSON_3_DEFAULTS;
+
+    static {
+        Map<String, Boolean> defaults = new LinkedHashMap<>();
+        // Features enabled by default in Jackson 3 (changed from false to true)
+        defaults.put("MapperFeature.SORT_PROPERTIES_ALPHABETICALLY", true);
+        defaults.put("DeserializationFeature.READ_ENUMS_USING_TO_STRING", true);
+        defaults.put("DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES", true);
+        defaults.put("DeserializationFeature.FAIL_ON_TRAILING_TOKENS", true);
+        defaults.put("SerializationFeature.WRITE_ENUMS_USING_TO_STRING", true);
+        defaults.put("CBORReadFeature.DECODE_USING_STANDARD_NEGATIVE_BIGINT_ENCODING", true);
+        defaults.put("CBORReadFeature.READ_UNDEFINED_AS_EMBEDDED_OBJECT", true);
+        defaults.put("CBORReadFeature.READ_SIMPLE_VALUE_AS_EMBEDDED_OBJECT", true);
+        defaults.put("CBORWriteFeature.ENCODE_USING_STANDARD_NEGATIVE_BIGINT_ENCODING", true);
+        defaults.put("XmlWriteFeature.UNWRAP_ROOT_OBJECT_NODE", true);
+        defaults.put("XmlWriteFeature.WRITE_NULLS_AS_XSI_NIL", true);
+        defaults.put("XmlWriteFeature.AUTO_DETECT_XSI_TYPE", true);
+        defaults.put("XmlWriteFeature.WRITE_XML_SCHEMA_CONFORMING_FLOATS", true);
+        // Features disabled by default in Jackson 3 (changed from true to false)
+        defaults.put("MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS", false);
+        defaults.put("MapperFeature.DEFAULT_VIEW_INCLUSION", false);
+        defaults.put("MapperFeature.USE_GETTERS_AS_SETTERS", false);
+        defaults.put("DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES", false);
+        defaults.put("SerializationFeature.FAIL_ON_EMPTY_BEANS", false);
+        defaults.put("SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS", false);
+        defaults.put("SerializationFeature.WRITE_DATES_AS_TIMESTAMPS", false);
+        JACKSON_3_DEFAULTS = Collections.unmodifiableMap(defaults);
+    }
+
+    String displayName = "Remove redundant Jackson 3 feature flag configurations";
+
+    String description = "Remove `ObjectMapper` feature flag configurations and `spring.jackson.mapper.*` properties " +
+            "that set values to their new Jackson 3 defaults. Every feature whose default changed in Jackson 3 is " +
+            "checked in a single pass over each source file, rather than once per feature.";
+
+    Set<String> tags = singleton("jackson-3");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.instrument(this, performance, RemoveRedundantFeatureFlags.visitor(JACKSON_3_DEFAULTS));
+    }
+}
@@ -18,14 +18,13 @@ package org.openrewrite.java.jackson;
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.RemoveAnnotationVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -49,10 +48,12 @@ public class RemoveRedundantJsonPropertyValue extends Recipe {
     @Getter
     final Set<String> tags = singleton( "jackson-2" );
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(JACKSON_JSON_PROPERTY, false),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(JACKSON_JSON_PROPERTY),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
@@ -67,6 +68,7 @@ public class RemoveRedundantJsonPropertyValue extends Recipe {
                                     return modifiedAnnotation;
                                 }
                                 // Schedule annotation removal after this pass
+                                JacksonRecipeMetrics.followUpScheduled();
                                 doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@" + JACKSON_JSON_PROPERTY) {
                                     @Override
                                     public boolean matches(J.Annotation annotation) {
@@ -22,12 +22,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.RemoveMethodThrows;
-import org.openrewrite.java.search.DeclaresMethod;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -72,14 +70,14 @@ public class ReplaceIOExceptionThrowInJacksonOverrides extends Recipe {
                 new RemoveMethodThrows(DESERIALIZE_PATTERN, true, IO_EXCEPTION));
     }
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return JacksonRecipeMetrics.check(this, performance,
                 Preconditions.and(
-                        new UsesType<>(IO_EXCEPTION, false),
-                        Preconditions.or(
-                                new DeclaresMethod<>(SERIALIZE),
-                                new DeclaresMethod<>(DESERIALIZE))),
+                        JacksonUsageIndex.usesType(IO_EXCEPTION),
+                        JacksonUsageIndex.declaresMethod(SERIALIZE, DESERIALIZE)),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Throw visitThrow(J.Throw thrown, ExecutionContext ctx) {
@@ -120,10 +118,10 @@ public class ReplaceIOExceptionThrowInJacksonOverrides extends Recipe {
                         Object[] templateArgs = args.size() == 1 ?
                                 new Object[]{paramRef, args.get(0)} :
                                 new Object[]{paramRef, args.get(0), args.get(1)};
+                        JacksonRecipeMetrics.templateBuilt();
                         return JavaTemplate.builder(template)
                                 .imports(JSON_MAPPING_EXCEPTION)
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "jackson-core-2", "jackson-databind-2"))
+                                .javaParser(JacksonClasspath.parser(ctx, "jackson-core-2", "jackson-databind-2"))
                                 .build()
                                 .apply(getCursor(), t.getCoordinates().replace(), templateArgs);
                     }
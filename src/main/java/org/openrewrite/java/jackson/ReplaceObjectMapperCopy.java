@@ -17,50 +17,229 @@ package org.openrewrite.java.jackson;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class ReplaceObjectMapperCopy extends Recipe {
 
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String SERIALIZATION_FEATURE = "com.fasterxml.jackson.databind.SerializationFeature";
+    private static final String DESERIALIZATION_FEATURE = "com.fasterxml.jackson.databind.DeserializationFeature";
+
     private static final MethodMatcher COPY_MATCHER =
-            new MethodMatcher("com.fasterxml.jackson.databind.ObjectMapper copy()", true);
+            new MethodMatcher(OBJECT_MAPPER + " copy()", true);
+
+    private static final MethodMatcher CONFIGURE_SERIALIZATION = new MethodMatcher(OBJECT_MAPPER + " configure(" + SERIALIZATION_FEATURE + ", boolean)", true);
+    private static final MethodMatcher ENABLE_SERIALIZATION = new MethodMatcher(OBJECT_MAPPER + " enable(" + SERIALIZATION_FEATURE + ", ..)", true);
+    private static final MethodMatcher DISABLE_SERIALIZATION = new MethodMatcher(OBJECT_MAPPER + " disable(" + SERIALIZATION_FEATURE + ", ..)", true);
+    private static final MethodMatcher CONFIGURE_DESERIALIZATION = new MethodMatcher(OBJECT_MAPPER + " configure(" + DESERIALIZATION_FEATURE + ", boolean)", true);
+    private static final MethodMatcher ENABLE_DESERIALIZATION = new MethodMatcher(OBJECT_MAPPER + " enable(" + DESERIALIZATION_FEATURE + ", ..)", true);
+    private static final MethodMatcher DISABLE_DESERIALIZATION = new MethodMatcher(OBJECT_MAPPER + " disable(" + DESERIALIZATION_FEATURE + ", ..)", true);
+
+    private static final MethodMatcher WRITE_VALUE = new MethodMatcher(OBJECT_MAPPER + " writeValue*(..)", true);
+    private static final MethodMatcher READ_VALUE = new MethodMatcher(OBJECT_MAPPER + " readValue(*, *)", true);
+    private static final MethodMatcher READ_TREE = new MethodMatcher(OBJECT_MAPPER + " readTree(*)", true);
 
     String displayName = "Replace `ObjectMapper.copy()` with `rebuild().build()`";
-    String description = "In Jackson 3, `ObjectMapper.copy()` was removed. Use `mapper.rebuild().build()` instead.";
+    String description = "In Jackson 3, `ObjectMapper.copy()` was removed. Use `mapper.rebuild().build()` instead. " +
+            "Where the copy only toggles serialization or deserialization features before a single write or read, " +
+            "use `mapper.writer().with(...)` or `mapper.readerFor(...).with(...)` instead, which share the caches of " +
+            "the mapper rather than building a new mapper on every call.";
     Set<String> tags = singleton("jackson-3");
 
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    /**
+     * Shared with {@link MigrateJacksonApiCalls}.
+     */
+    static final InvocationRewrite REWRITE = new InvocationRewrite(OBJECT_MAPPER,
+            "copy", "writeValue", "writeValueAsString", "writeValueAsBytes", "readValue", "readTree") {
+        @Override
+        TreeVisitor<?, ExecutionContext> precondition() {
+            return JacksonUsageIndex.usesMethod(COPY_MATCHER);
+        }
+
+        @Override
+        J rewrite(J.MethodInvocation mi, InvocationRewrite.Visitor visitor, ExecutionContext ctx) {
+            if (COPY_MATCHER.matches(mi) && mi.getSelect() != null) {
+                if (isReconfiguredForOneCall(visitor.getCursor())) {
+                    // Rewritten along with the read or write it ends in
+                    return mi;
+                }
+                JacksonRecipeMetrics.templateBuilt();
+                return JavaTemplate
+                        .builder("#{any(tools.jackson.databind.ObjectMapper)}.rebuild().build()")
+                        .javaParser(JacksonClasspath.parser(ctx, "jackson-core-3", "jackson-databind-3"))
+                        .build()
+                        .apply(visitor.getCursor(), mi.getCoordinates().replace(), mi.getSelect());
+            }
+
+            Reconfiguration reconfiguration = Reconfiguration.of(mi, visitor.getCursor());
+            if (reconfiguration == null) {
+                return mi;
+            }
+            JacksonRecipeMetrics.templateBuilt();
+            return JavaTemplate
+                    .builder(reconfiguration.template.toString())
+                    .javaParser(JacksonClasspath.parser(ctx,
+                            "jackson-annotations-2",
+                            "jackson-core-2",
+                            "jackson-databind-2"))
+                    .build()
+                    .apply(visitor.getCursor(), mi.getCoordinates().replace(), reconfiguration.parameters.toArray());
+        }
+    };
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesMethod<>(COPY_MATCHER),
-                new JavaIsoVisitor<ExecutionContext>() {
-                    @Override
-                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                        if (!COPY_MATCHER.matches(mi) || mi.getSelect() == null) {
-                            return mi;
-                        }
-                        return JavaTemplate
-                                .builder("#{any(tools.jackson.databind.ObjectMapper)}.rebuild().build()")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core-3", "jackson-databind-3"))
-                                .build()
-                                .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect());
-                    }
+        return JacksonRecipeMetrics.check(this, performance,
+                REWRITE.precondition(),
+                new InvocationRewrite.Visitor(singletonList(REWRITE)));
+    }
+
+    /**
+     * Whether the {@code copy()} the cursor points at only has features toggled on it before a single read
+     * or write, so that an {@code ObjectReader} or {@code ObjectWriter} can stand in for the copy.
+     */
+    private static boolean isReconfiguredForOneCall(Cursor copy) {
+        Object select = copy.getValue();
+        for (Cursor parent = copy.getParentTreeCursor(); parent.getValue() instanceof J.MethodInvocation; parent = parent.getParentTreeCursor()) {
+            J.MethodInvocation call = parent.getValue();
+            if (call.getSelect() != select) {
+                return false;
+            }
+            if (!isToggle(call)) {
+                return Reconfiguration.of(call, parent) != null;
+            }
+            select = call;
+        }
+        return false;
+    }
+
+    private static boolean isToggle(J.MethodInvocation call) {
+        return isWriteToggle(call) || isReadToggle(call);
+    }
+
+    private static boolean isWriteToggle(J.MethodInvocation call) {
+        return ENABLE_SERIALIZATION.matches(call) || DISABLE_SERIALIZATION.matches(call) ||
+               CONFIGURE_SERIALIZATION.matches(call) && call.getArguments().get(1) instanceof J.Literal;
+    }
+
+    private static boolean isReadToggle(J.MethodInvocation call) {
+        return ENABLE_DESERIALIZATION.matches(call) || DISABLE_DESERIALIZATION.matches(call) ||
+               CONFIGURE_DESERIALIZATION.matches(call) && call.getArguments().get(1) instanceof J.Literal;
+    }
+
+    /**
+     * A read or write on a copied mapper, rewritten to go through a reader or writer of the original mapper
+     * with the same features toggled.
+     */
+    private static class Reconfiguration {
+        final StringBuilder template = new StringBuilder("#{any(" + OBJECT_MAPPER + ")}");
+        final List<Object> parameters = new ArrayList<>();
+
+        static @Nullable Reconfiguration of(J.MethodInvocation terminal, Cursor cursor) {
+            boolean write = WRITE_VALUE.matches(terminal);
+            // ObjectReader has no readTree(File) or readTree(URL)
+            boolean readTree = READ_TREE.matches(terminal) &&
+                               (terminal.getArguments().get(0).getType() instanceof JavaType.Array ||
+                                isAnyOf(terminal.getArguments().get(0).getType(), "java.lang.String", "java.io.InputStream", "java.io.Reader"));
+            // The type argument of ObjectReader.readValue(..) is inferred from how the result is used
+            boolean read = READ_VALUE.matches(terminal) && isTargetTyped(cursor) &&
+                           isAnyOf(terminal.getArguments().get(1).getType(),
+                                   "java.lang.Class", "com.fasterxml.jackson.core.type.TypeReference", "com.fasterxml.jackson.databind.JavaType");
+            if (!write && !read && !readTree) {
+                return null;
+            }
+
+            List<J.MethodInvocation> toggles = new ArrayList<>();
+            Expression select = terminal.getSelect();
+            while (select instanceof J.MethodInvocation && !COPY_MATCHER.matches(select)) {
+                J.MethodInvocation toggle = (J.MethodInvocation) select;
+                if (write ? !isWriteToggle(toggle) : !isReadToggle(toggle)) {
+                    return null;
                 }
-        );
+                toggles.add(0, toggle);
+                select = toggle.getSelect();
+            }
+            if (!(select instanceof J.MethodInvocation) || ((J.MethodInvocation) select).getSelect() == null) {
+                return null;
+            }
+
+            Reconfiguration reconfiguration = new Reconfiguration();
+            reconfiguration.parameters.add(((J.MethodInvocation) select).getSelect());
+            if (write) {
+                reconfiguration.template.append(".writer()");
+            } else if (read) {
+                reconfiguration.template.append(".readerFor(#{any()})");
+                reconfiguration.parameters.add(terminal.getArguments().get(1));
+            } else {
+                reconfiguration.template.append(".reader()");
+            }
+            for (J.MethodInvocation toggle : toggles) {
+                boolean with = "enable".equals(toggle.getSimpleName()) ||
+                               "configure".equals(toggle.getSimpleName()) &&
+                               Boolean.TRUE.equals(((J.Literal) toggle.getArguments().get(1)).getValue());
+                List<Expression> features = "configure".equals(toggle.getSimpleName()) ?
+                        toggle.getArguments().subList(0, 1) : toggle.getArguments();
+                reconfiguration.template.append(with ? ".with(" : ".without(");
+                reconfiguration.appendArguments(features);
+                reconfiguration.template.append(')');
+            }
+            reconfiguration.template.append('.').append(terminal.getSimpleName()).append('(');
+            reconfiguration.appendArguments(read ? terminal.getArguments().subList(0, 1) : terminal.getArguments());
+            reconfiguration.template.append(')');
+            return reconfiguration;
+        }
+
+        private void appendArguments(List<Expression> arguments) {
+            for (int i = 0; i < arguments.size(); i++) {
+                template.append(i == 0 ? "#{any()}" : ", #{any()}");
+                parameters.add(arguments.get(i));
+            }
+        }
+
+        private static boolean isAnyOf(@Nullable JavaType type, String... fullyQualifiedNames) {
+            for (String fqn : fullyQualifiedNames) {
+                if (TypeUtils.isAssignableTo(fqn, type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Whether the expression at the cursor is the initializer of a variable with a declared type, an assigned
+     * value or a returned value, so the type argument of a generic method like {@code ObjectReader.readValue(..)}
+     * is inferred from where its result goes. Shared with {@link HoistObjectReaderToStaticField}.
+     */
+    static boolean isTargetTyped(Cursor cursor) {
+        Object parent = cursor.getParentTreeCursor().getValue();
+        if (parent instanceof J.VariableDeclarations.NamedVariable) {
+            J.VariableDeclarations declarations = cursor.getParentTreeCursor().getParentTreeCursor().getValue();
+            return !(declarations.getTypeExpression() instanceof J.Identifier &&
+                     "var".equals(((J.Identifier) declarations.getTypeExpression()).getSimpleName()));
+        }
+        return parent instanceof J.Return || parent instanceof J.Assignment;
     }
 }
@@ -17,19 +17,17 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.J;
 
 import java.util.Set;
 
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 
 public class ReplaceStreamWriteCapability extends Recipe {
 
@@ -47,39 +45,50 @@ public class ReplaceStreamWriteCapability extends Recipe {
     @Getter
     final Set<String> tags = singleton( "jackson-3" );
 
-    @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(CAN_WRITE_BINARY_NATIVELY),
-                        new UsesMethod<>(CAN_WRITE_FORMATTED_NUMBERS)
-                ),
-                new JavaVisitor<ExecutionContext>() {
-                    @Override
-                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                        J.MethodInvocation mi = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    /**
+     * Shared with {@link MigrateJacksonApiCalls}.
+     */
+    static final InvocationRewrite REWRITE = new InvocationRewrite("com.fasterxml.jackson.core.JsonGenerator",
+            "canWriteBinaryNatively", "canWriteFormattedNumbers") {
+        @Override
+        TreeVisitor<?, ExecutionContext> precondition() {
+            return JacksonUsageIndex.usesMethod(
+                    CAN_WRITE_BINARY_NATIVELY,
+                    CAN_WRITE_FORMATTED_NUMBERS);
+        }
 
-                        if (CAN_WRITE_BINARY_NATIVELY.matches(mi)) {
-                            maybeAddImport("com.fasterxml.jackson.core.StreamWriteCapability");
-                            return JavaTemplate.builder("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY)")
-                                    .imports("com.fasterxml.jackson.core.StreamWriteCapability")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core-2.+"))
-                                    .build()
-                                    .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect());
-                        }
+        @Override
+        J rewrite(J.MethodInvocation mi, InvocationRewrite.Visitor visitor, ExecutionContext ctx) {
+            if (CAN_WRITE_BINARY_NATIVELY.matches(mi)) {
+                visitor.maybeAddImport("com.fasterxml.jackson.core.StreamWriteCapability");
+                JacksonRecipeMetrics.templateBuilt();
+                return JavaTemplate.builder("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY)")
+                        .imports("com.fasterxml.jackson.core.StreamWriteCapability")
+                        .javaParser(JacksonClasspath.parser(ctx, "jackson-core-2.+"))
+                        .build()
+                        .apply(visitor.getCursor(), mi.getCoordinates().replace(), mi.getSelect());
+            }
 
-                        if (CAN_WRITE_FORMATTED_NUMBERS.matches(mi)) {
-                            maybeAddImport("com.fasterxml.jackson.core.StreamWriteCapability");
-                            return JavaTemplate.builder("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_FORMATTED_NUMBERS)")
-                                    .imports("com.fasterxml.jackson.core.StreamWriteCapability")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jackson-core-2.+"))
-                                    .build()
-                                    .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect());
-                        }
+            if (CAN_WRITE_FORMATTED_NUMBERS.matches(mi)) {
+                visitor.maybeAddImport("com.fasterxml.jackson.core.StreamWriteCapability");
+                JacksonRecipeMetrics.templateBuilt();
+                return JavaTemplate.builder("#{any(com.fasterxml.jackson.core.JsonGenerator)}.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_FORMATTED_NUMBERS)")
+                        .imports("com.fasterxml.jackson.core.StreamWriteCapability")
+                        .javaParser(JacksonClasspath.parser(ctx, "jackson-core-2.+"))
+                        .build()
+                        .apply(visitor.getCursor(), mi.getCoordinates().replace(), mi.getSelect());
+            }
 
-                        return mi;
-                    }
-                }
-        );
+            return mi;
+        }
+    };
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                REWRITE.precondition(),
+                new InvocationRewrite.Visitor(singletonList(REWRITE)));
     }
 }
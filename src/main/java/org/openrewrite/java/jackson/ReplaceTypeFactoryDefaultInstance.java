@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ReplaceTypeFactoryDefaultInstance extends Recipe {
+
+    private static final String OBJECT_MAPPER = "com.fasterxml.jackson.databind.ObjectMapper";
+    private static final String TYPE_FACTORY = "com.fasterxml.jackson.databind.type.TypeFactory";
+    private static final MethodMatcher DEFAULT_INSTANCE = new MethodMatcher(TYPE_FACTORY + " defaultInstance()");
+    private static final String FIELD_INITIALIZER = "TypeFactory.defaultInstance()";
+
+    String displayName = "Replace `TypeFactory.defaultInstance()` with a shared `TypeFactory`";
+
+    String description = "Jackson 3 removed the shared `TypeFactory.defaultInstance()`. Its replacement, " +
+            "`TypeFactory.createDefaultInstance()`, creates a new `TypeFactory` with an empty type cache on every call, " +
+            "so renaming the call makes code that resolves types per request resolve them from scratch each time. " +
+            "Where an `ObjectMapper` parameter, local variable or final field is in scope, use its `getTypeFactory()` " +
+            "instead. Otherwise declare one `private static final TypeFactory` per class and use that. Any remaining " +
+            "calls and method references, such as in field initializers, are renamed to `createDefaultInstance()`.";
+
+    Set<String> tags = singleton("jackson-3");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(DEFAULT_INSTANCE),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    private JavaType.@Nullable Method createDefaultInstance;
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        // Route the calls in the methods of this class before visiting it, so that only the calls
+                        // that couldn't be routed are left to rename
+                        return super.visitClassDeclaration(route(classDecl, ctx), ctx);
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                        if (mi.getMethodType() == null || !DEFAULT_INSTANCE.matches(mi)) {
+                            return mi;
+                        }
+                        // Such as in field initializers, interfaces and Kotlin, which keep a per-call TypeFactory
+                        JavaType.Method renamed = createDefaultInstance(mi.getMethodType());
+                        return mi.withName(mi.getName().withSimpleName(renamed.getName())).withMethodType(renamed);
+                    }
+
+                    @Override
+                    public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                        J.MemberReference mr = super.visitMemberReference(memberRef, ctx);
+                        if (mr.getMethodType() == null || !DEFAULT_INSTANCE.matches(mr.getMethodType())) {
+                            return mr;
+                        }
+                        JavaType.Method renamed = createDefaultInstance(mr.getMethodType());
+                        return mr.withReference(mr.getReference().withSimpleName(renamed.getName())).withMethodType(renamed);
+                    }
+
+                    /**
+                     * The type of {@code createDefaultInstance()}, derived once from that of {@code defaultInstance()}.
+                     */
+                    private JavaType.Method createDefaultInstance(JavaType.Method defaultInstance) {
+                        JavaType.Method renamed = createDefaultInstance;
+                        if (renamed == null || renamed.getDeclaringType() != defaultInstance.getDeclaringType()) {
+                            renamed = defaultInstance.withName("createDefaultInstance");
+                            createDefaultInstance = renamed;
+                        }
+                        return renamed;
+                    }
+
+                    private J.ClassDeclaration route(J.ClassDeclaration cd, ExecutionContext ctx) {
+                        // Kotlin has no static fields; companion objects are out of scope
+                        if (!(getCursor().firstEnclosing(JavaSourceFile.class) instanceof J.CompilationUnit) ||
+                            !StaticFieldSupport.canDeclareStaticField(cd, getCursor())) {
+                            return cd;
+                        }
+
+                        Cursor bodyCursor = new Cursor(updateCursor(cd), cd.getBody());
+                        Map<String, String> existingFields = StaticFieldSupport.staticFinalFieldsByInitializer(cd.getBody(), bodyCursor);
+                        String existing = existingFields.get(StaticFieldSupport.initializerKey(FIELD_INITIALIZER));
+                        String fieldName = existing != null ? existing :
+                                StaticFieldSupport.uniqueName("TYPE_FACTORY", StaticFieldSupport.declaredNames(cd));
+                        Replacer replacer = new Replacer(fieldName);
+                        J.Block body = cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), s ->
+                                s instanceof J.MethodDeclaration && ((J.MethodDeclaration) s).getBody() != null ?
+                                        (Statement) replacer.visitNonNull(s, ctx, bodyCursor) :
+                                        s));
+                        if (body == cd.getBody()) {
+                            return cd;
+                        }
+                        cd = cd.withBody(body);
+                        if (replacer.references.isEmpty() || existing != null) {
+                            return cd;
+                        }
+
+                        JacksonRecipeMetrics.templateBuilt();
+                        cd = JavaTemplate.builder("private static final TypeFactory " + fieldName + " = " + FIELD_INITIALIZER + ";")
+                                .contextSensitive()
+                                .imports(TYPE_FACTORY)
+                                .javaParser(JacksonClasspath.parser(ctx,
+                                        "jackson-annotations-2",
+                                        "jackson-core-2",
+                                        "jackson-databind-2"))
+                                .build()
+                                .apply(updateCursor(cd), cd.getBody().getCoordinates().firstStatement());
+                        return StaticFieldSupport.attributeFieldReferences(cd, replacer.references);
+                    }
+                });
+    }
+
+    /**
+     * Replaces the calls in one method with a mapper's type factory or a reference to the static field.
+     */
+    private static class Replacer extends JavaVisitor<ExecutionContext> {
+        private final String fieldName;
+        final Set<UUID> references = new HashSet<>();
+
+        Replacer(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        @Override
+        public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            // Local classes get their own fields, if they can have any
+            return classDecl;
+        }
+
+        @Override
+        public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+            // Anonymous class bodies belong to a different class
+            return newClass.getBody() == null ? super.visitNewClass(newClass, ctx) : newClass;
+        }
+
+        @Override
+        public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J j = super.visitMethodInvocation(method, ctx);
+            if (!(j instanceof J.MethodInvocation) || !DEFAULT_INSTANCE.matches((J.MethodInvocation) j)) {
+                return j;
+            }
+            J.MethodInvocation mi = (J.MethodInvocation) j;
+
+            J.Identifier mapper = isTypeFactoryArgument() ? null : mapperInScope();
+            JavaType.Method getTypeFactory = mapper == null ? null : getTypeFactoryMethod(mapper.getType());
+            if (mapper != null && getTypeFactory != null) {
+                return mi.withSelect(mapper.withPrefix(mi.getSelect() == null ? Space.EMPTY : mi.getSelect().getPrefix()))
+                        .withName(mi.getName().withSimpleName("getTypeFactory").withType(getTypeFactory))
+                        .withMethodType(getTypeFactory);
+            }
+
+            J.Identifier reference = new J.Identifier(Tree.randomId(), mi.getPrefix(), mi.getMarkers(), emptyList(),
+                    fieldName, mi.getType(), null);
+            references.add(reference.getId());
+            return reference;
+        }
+
+        /**
+         * Whether the call configures a mapper's type factory, where that mapper's own type factory is not
+         * a substitute.
+         */
+        private boolean isTypeFactoryArgument() {
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            return parent instanceof J.MethodInvocation &&
+                   ("setTypeFactory".equals(((J.MethodInvocation) parent).getSimpleName()) ||
+                    "typeFactory".equals(((J.MethodInvocation) parent).getSimpleName()));
+        }
+
+        /**
+         * The closest {@code ObjectMapper} local variable declared before the call, parameter of the enclosing
+         * method, or final field of the enclosing class that the call can refer to. Locals and parameters
+         * declared outside a lambda the call is in must be effectively final to be captured.
+         */
+        private J.@Nullable Identifier mapperInScope() {
+            boolean staticContext = false;
+            boolean constructor = false;
+            boolean inLambda = false;
+            Object child = null;
+            for (Cursor c = getCursor(); c != null; c = c.getParent()) {
+                Object value = c.getValue();
+                if (!(value instanceof J)) {
+                    continue;
+                }
+                if (value instanceof J.Lambda) {
+                    inLambda = true;
+                } else if (value instanceof J.Block && !(c.getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+                    J.Identifier local = null;
+                    for (Statement statement : ((J.Block) value).getStatements()) {
+                        if (statement == child) {
+                            break;
+                        }
+                        J.Identifier candidate = mapperVariable(statement, false, true);
+                        if (candidate != null && (!inLambda || isEffectivelyFinal(statement, (J.Block) value))) {
+                            local = candidate;
+                        }
+                    }
+                    if (local != null) {
+                        return local;
+                    }
+                } else if (value instanceof J.MethodDeclaration) {
+                    J.MethodDeclaration md = (J.MethodDeclaration) value;
+                    for (Statement parameter : md.getParameters()) {
+                        J.Identifier candidate = mapperVariable(parameter, false, false);
+                        if (candidate != null && (!inLambda || md.getBody() == null || isEffectivelyFinal(parameter, md.getBody()))) {
+                            return candidate;
+                        }
+                    }
+                    staticContext = md.hasModifier(J.Modifier.Type.Static);
+                    constructor = md.isConstructor();
+                } else if (value instanceof J.ClassDeclaration) {
+                    for (Statement statement : ((J.ClassDeclaration) value).getBody().getStatements()) {
+                        if (statement instanceof J.VariableDeclarations &&
+                            (!staticContext && !constructor || ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static))) {
+                            J.Identifier candidate = mapperVariable(statement, true, false);
+                            if (candidate != null) {
+                                return candidate;
+                            }
+                        }
+                    }
+                    return null;
+                }
+                child = value;
+            }
+            return null;
+        }
+
+        /**
+         * A reference to the mapper declared by the statement, if it declares a single {@code ObjectMapper}
+         * that is known to be initialized.
+         */
+        private static J.@Nullable Identifier mapperVariable(Statement statement, boolean requireFinal, boolean requireInitializer) {
+            if (!(statement instanceof J.VariableDeclarations)) {
+                return null;
+            }
+            J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+            if (vd.getVariables().size() != 1 || !TypeUtils.isAssignableTo(OBJECT_MAPPER, vd.getType()) ||
+                requireFinal && !vd.hasModifier(J.Modifier.Type.Final)) {
+                return null;
+            }
+            J.VariableDeclarations.NamedVariable variable = vd.getVariables().get(0);
+            Expression initializer = variable.getInitializer();
+            if (requireInitializer && (initializer == null || initializer instanceof J.Literal)) {
+                // Not definitely assigned, or initialized to null
+                return null;
+            }
+            return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                    variable.getSimpleName(), vd.getType(), variable.getVariableType());
+        }
+    }
+
+    /**
+     * Whether the variable declared by the statement is final or never assigned again within its scope.
+     * Any assignment to a variable of the same name counts, even if it is to another variable shadowing it.
+     */
+    private static boolean isEffectivelyFinal(Statement declaration, J scope) {
+        J.VariableDeclarations vd = (J.VariableDeclarations) declaration;
+        if (vd.hasModifier(J.Modifier.Type.Final)) {
+            return true;
+        }
+        String name = vd.getVariables().get(0).getSimpleName();
+        return !new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean assigned) {
+                assigned.compareAndSet(false, isVariable(assignment.getVariable()));
+                return super.visitAssignment(assignment, assigned);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean assigned) {
+                assigned.compareAndSet(false, isVariable(assignOp.getVariable()));
+                return super.visitAssignmentOperation(assignOp, assigned);
+            }
+
+            private boolean isVariable(Expression variable) {
+                return variable instanceof J.Identifier && name.equals(((J.Identifier) variable).getSimpleName());
+            }
+        }.reduce(scope, new AtomicBoolean()).get();
+    }
+
+    private static JavaType.@Nullable Method getTypeFactoryMethod(@Nullable JavaType mapperType) {
+        for (JavaType.FullyQualified type = TypeUtils.asFullyQualified(mapperType); type != null; type = type.getSupertype()) {
+            for (JavaType.Method method : type.getMethods()) {
+                if ("getTypeFactory".equals(method.getName()) && method.getParameterTypes().isEmpty()) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+}
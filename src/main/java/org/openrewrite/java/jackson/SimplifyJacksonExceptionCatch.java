@@ -17,11 +17,11 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.NameTree;
@@ -49,9 +49,11 @@ public class SimplifyJacksonExceptionCatch extends Recipe {
     @Getter
     final Set<String> tags = singleton( "jackson-3" );
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return JacksonRecipeMetrics.check(this, performance,
                 new UsesType<>("tools.jackson.core.JacksonException", true),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Helpers for recipes that move an expression out of a method body into a {@code private static final}
+ * field of the enclosing class.
+ */
+final class StaticFieldSupport {
+
+    private StaticFieldSupport() {
+    }
+
+    /**
+     * Whether a {@code private static final} field can be added to the class: a top-level class,
+     * or a static nested class, enum or record. Interfaces, inner classes and local classes are excluded.
+     *
+     * @param cursor a cursor pointing at the class declaration.
+     */
+    static boolean canDeclareStaticField(J.ClassDeclaration classDecl, Cursor cursor) {
+        J.ClassDeclaration.Kind.Type kind = classDecl.getKind();
+        if (kind == J.ClassDeclaration.Kind.Type.Interface || kind == J.ClassDeclaration.Kind.Type.Annotation) {
+            return false;
+        }
+        Cursor parent = cursor.getParentTreeCursor();
+        if (parent.getValue() instanceof JavaSourceFile) {
+            return true;
+        }
+        if (!(parent.getValue() instanceof J.Block) ||
+            !(parent.getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+            return false;
+        }
+        return classDecl.hasModifier(J.Modifier.Type.Static) ||
+               kind == J.ClassDeclaration.Kind.Type.Enum ||
+               kind == J.ClassDeclaration.Kind.Type.Record;
+    }
+
+    /**
+     * Whether the expression evaluates to the same value on every call: literals, class literals,
+     * {@code static final} fields (including enum constants), no-argument constructor calls without
+     * a body, and string concatenation or arithmetic of these.
+     */
+    static boolean isConstant(Expression expression) {
+        Expression e = expression;
+        while (e instanceof J.Parentheses) {
+            e = (Expression) ((J.Parentheses<?>) e).getTree();
+        }
+        if (e instanceof J.Literal || e instanceof J.Empty) {
+            return true;
+        }
+        if (e instanceof J.FieldAccess) {
+            J.FieldAccess fa = (J.FieldAccess) e;
+            return "class".equals(fa.getSimpleName()) || isStaticFinal(fa.getName().getFieldType());
+        }
+        if (e instanceof J.Identifier) {
+            return isStaticFinal(((J.Identifier) e).getFieldType());
+        }
+        if (e instanceof J.Binary) {
+            return isConstant(((J.Binary) e).getLeft()) && isConstant(((J.Binary) e).getRight());
+        }
+        if (e instanceof J.NewClass) {
+            J.NewClass nc = (J.NewClass) e;
+            if (nc.getBody() != null || nc.getConstructorType() == null) {
+                return false;
+            }
+            for (Expression arg : nc.getArguments()) {
+                if (!isConstant(arg)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isStaticFinal(JavaType.@Nullable Variable variable) {
+        return variable != null && variable.hasFlags(Flag.Static, Flag.Final);
+    }
+
+    /**
+     * Converts a camel case name such as {@code prettyMapper} or {@code ObjectMapper} into
+     * {@code PRETTY_MAPPER} or {@code OBJECT_MAPPER}.
+     */
+    static String constantName(String camelCase) {
+        StringBuilder sb = new StringBuilder(camelCase.length() + 4);
+        for (int i = 0; i < camelCase.length(); i++) {
+            char c = camelCase.charAt(i);
+            if (i > 0 && Character.isUpperCase(c)) {
+                char prev = camelCase.charAt(i - 1);
+                boolean nextIsLower = i + 1 < camelCase.length() && Character.isLowerCase(camelCase.charAt(i + 1));
+                if (Character.isLowerCase(prev) || Character.isDigit(prev) ||
+                    (Character.isUpperCase(prev) && nextIsLower)) {
+                    sb.append('_');
+                }
+            }
+            sb.append(Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Every variable name declared anywhere in the class, so that a new field name neither clashes
+     * with an existing field nor is shadowed by a local variable or parameter.
+     */
+    static Set<String> declaredNames(J.ClassDeclaration classDecl) {
+        Set<String> names = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> n) {
+                n.add(variable.getSimpleName());
+                return super.visitVariable(variable, n);
+            }
+        }.visit(classDecl, names);
+        return names;
+    }
+
+    /**
+     * Returns {@code base}, or {@code base} with the first numeric suffix that is not yet taken, and
+     * reserves the returned name.
+     */
+    static String uniqueName(String base, Set<String> taken) {
+        String name = base;
+        for (int i = 2; taken.contains(name); i++) {
+            name = base + "_" + i;
+        }
+        taken.add(name);
+        return name;
+    }
+
+    /**
+     * The {@code static final} fields declared directly in the class body, keyed by their
+     * initializer as returned by {@link #initializerKey(String)}.
+     *
+     * @param bodyCursor a cursor pointing at the class body.
+     */
+    static Map<String, String> staticFinalFieldsByInitializer(J.Block body, Cursor bodyCursor) {
+        Map<String, String> fields = new HashMap<>();
+        for (Statement statement : body.getStatements()) {
+            if (!(statement instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+            if (!vd.hasModifier(J.Modifier.Type.Static) || !vd.hasModifier(J.Modifier.Type.Final)) {
+                continue;
+            }
+            for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                if (variable.getInitializer() != null) {
+                    fields.putIfAbsent(initializerKey(variable.getInitializer().printTrimmed(bodyCursor)), variable.getSimpleName());
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * The last field declaration or initializer block of the class body that mentions {@code name}. A new
+     * field whose initializer uses {@code name} is declared after it, so that it is neither an illegal forward
+     * reference nor initialized before the referenced field has been configured.
+     *
+     * @return the statement, or {@code null} if no field or initializer block mentions {@code name}.
+     */
+    static @Nullable Statement lastInitializerReferencing(J.Block body, String name) {
+        Statement last = null;
+        for (Statement statement : body.getStatements()) {
+            if (statement instanceof J.MethodDeclaration || statement instanceof J.ClassDeclaration) {
+                continue;
+            }
+            boolean mentions = new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                    if (name.equals(identifier.getSimpleName())) {
+                        found.set(true);
+                    }
+                    return identifier;
+                }
+            }.reduce(statement, new AtomicBoolean()).get();
+            if (mentions) {
+                last = statement;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Where to declare a new field in the class body: after the statement with the given id, or as the first
+     * statement when there is none.
+     */
+    static JavaCoordinates insertionPoint(J.Block body, @Nullable UUID after) {
+        if (after != null) {
+            for (Statement statement : body.getStatements()) {
+                if (statement.getId().equals(after)) {
+                    return statement.getCoordinates().after();
+                }
+            }
+        }
+        return body.getCoordinates().firstStatement();
+    }
+
+    /**
+     * The {@code static final} field the expression refers to, by simple name or qualified.
+     */
+    static JavaType.@Nullable Variable staticFinalField(@Nullable Expression expression) {
+        JavaType.Variable field = null;
+        if (expression instanceof J.Identifier) {
+            field = ((J.Identifier) expression).getFieldType();
+        } else if (expression instanceof J.FieldAccess) {
+            field = ((J.FieldAccess) expression).getName().getFieldType();
+        }
+        return isStaticFinal(field) ? field : null;
+    }
+
+    /**
+     * Whether the type can be written in a static field initializer: it mentions neither type variables
+     * nor local or anonymous classes.
+     */
+    static boolean isNameableInStaticContext(@Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            return true;
+        }
+        if (type instanceof JavaType.Array) {
+            return isNameableInStaticContext(((JavaType.Array) type).getElemType());
+        }
+        if (type instanceof JavaType.GenericTypeVariable) {
+            JavaType.GenericTypeVariable variable = (JavaType.GenericTypeVariable) type;
+            if (!"?".equals(variable.getName())) {
+                return false;
+            }
+            for (JavaType bound : variable.getBounds()) {
+                if (!isNameableInStaticContext(bound)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type instanceof JavaType.Parameterized) {
+            for (JavaType typeParameter : ((JavaType.Parameterized) type).getTypeParameters()) {
+                if (!isNameableInStaticContext(typeParameter)) {
+                    return false;
+                }
+            }
+            return isNameableInStaticContext(((JavaType.Parameterized) type).getType());
+        }
+        if (type instanceof JavaType.FullyQualified) {
+            // Local and anonymous classes have a binary name like `Outer$1Local`
+            return !((JavaType.FullyQualified) type).getFullyQualifiedName().matches(".*\\$\\d.*");
+        }
+        return false;
+    }
+
+    /**
+     * A camel case name for the type to derive a field name from, such as {@code Foo}, {@code FooArray}
+     * or {@code MapStringFoo}.
+     */
+    static String typeBaseName(@Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            String keyword = ((JavaType.Primitive) type).getKeyword();
+            return Character.toUpperCase(keyword.charAt(0)) + keyword.substring(1);
+        }
+        if (type instanceof JavaType.Array) {
+            return typeBaseName(((JavaType.Array) type).getElemType()) + "Array";
+        }
+        if (type instanceof JavaType.GenericTypeVariable) {
+            List<JavaType> bounds = ((JavaType.GenericTypeVariable) type).getBounds();
+            return bounds.isEmpty() ? "Object" : typeBaseName(bounds.get(0));
+        }
+        if (type instanceof JavaType.Parameterized) {
+            StringBuilder name = new StringBuilder(typeBaseName(((JavaType.Parameterized) type).getType()));
+            for (JavaType typeParameter : ((JavaType.Parameterized) type).getTypeParameters()) {
+                name.append(typeBaseName(typeParameter));
+            }
+            return name.toString();
+        }
+        if (type instanceof JavaType.FullyQualified) {
+            String className = ((JavaType.FullyQualified) type).getClassName();
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+        return "Value";
+    }
+
+    /**
+     * Normalizes printed initializer code so that the same expression split differently across lines
+     * compares equal.
+     */
+    static String initializerKey(String code) {
+        return code.replaceAll("\\s*\\R\\s*", "");
+    }
+
+    /**
+     * Replaces the field type of the given identifiers, created before the field they refer to existed,
+     * with the type of the field now declared in the class body.
+     */
+    static J.ClassDeclaration attributeFieldReferences(J.ClassDeclaration classDecl, Set<UUID> identifierIds) {
+        Map<String, JavaType.Variable> fieldTypes = new HashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (variable.getVariableType() != null) {
+                        fieldTypes.put(variable.getSimpleName(), variable.getVariableType());
+                    }
+                }
+            }
+        }
+        return (J.ClassDeclaration) new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                J.Identifier id = super.visitIdentifier(identifier, p);
+                if (identifierIds.contains(id.getId())) {
+                    JavaType.Variable fieldType = fieldTypes.get(id.getSimpleName());
+                    if (fieldType != null) {
+                        return id.withFieldType(fieldType).withType(fieldType.getType());
+                    }
+                }
+                return id;
+            }
+        }.visitNonNull(classDecl, 0);
+    }
+
+    /**
+     * Attributes method invocations whose receiver was replaced by a reference to a new field. Each
+     * invocation is looked up by the id of its receiver, and gets the method of the field's type with the
+     * name and parameter types of the given signature, returning the signature's return type.
+     */
+    static J.ClassDeclaration attributeInvocationsOnFields(J.ClassDeclaration classDecl, Map<UUID, JavaType.Method> signatures) {
+        return (J.ClassDeclaration) new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, p);
+                if (mi.getSelect() == null) {
+                    return mi;
+                }
+                JavaType.Method signature = signatures.get(mi.getSelect().getId());
+                JavaType.FullyQualified owner = TypeUtils.asFullyQualified(mi.getSelect().getType());
+                if (signature == null || owner == null) {
+                    return mi;
+                }
+                JavaType.Method methodType = findMethod(owner, signature);
+                methodType = (methodType == null ? signature.withDeclaringType(owner) : methodType)
+                        .withReturnType(signature.getReturnType());
+                return mi.withMethodType(methodType).withName(mi.getName().withType(methodType));
+            }
+        }.visitNonNull(classDecl, 0);
+    }
+
+    private static JavaType.@Nullable Method findMethod(JavaType.FullyQualified owner, JavaType.Method signature) {
+        for (JavaType.FullyQualified type = owner; type != null; type = type.getSupertype()) {
+            nextMethod:
+            for (JavaType.Method candidate : type.getMethods()) {
+                if (!candidate.getName().equals(signature.getName()) ||
+                    candidate.getParameterTypes().size() != signature.getParameterTypes().size()) {
+                    continue;
+                }
+                for (int i = 0; i < candidate.getParameterTypes().size(); i++) {
+                    if (!TypeUtils.isOfType(candidate.getParameterTypes().get(i), signature.getParameterTypes().get(i))) {
+                        continue nextMethod;
+                    }
+                }
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
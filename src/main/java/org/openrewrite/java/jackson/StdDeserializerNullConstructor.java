@@ -18,13 +18,12 @@ package org.openrewrite.java.jackson;
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -47,12 +46,14 @@ public class StdDeserializerNullConstructor extends Recipe {
             "parameter. This recipe replaces `this(null)` and `super((Class<?>) null)` in `StdDeserializer` " +
             "subclass constructors with the actual type parameter from the class declaration.";
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(STD_DESER_CONSTRUCTOR),
-                        new UsesMethod<>(ANY_STD_DESER_SUBCLASS_CONSTRUCTOR)),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(
+                        STD_DESER_CONSTRUCTOR,
+                        ANY_STD_DESER_SUBCLASS_CONSTRUCTOR),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -78,6 +79,7 @@ public class StdDeserializerNullConstructor extends Recipe {
                         }
 
                         String className = ((JavaType.FullyQualified) typeParam).getClassName();
+                        JacksonRecipeMetrics.templateBuilt();
                         return JavaTemplate.apply(className + ".class", getCursor(), mi.getCoordinates().replaceArguments());
                     }
 
@@ -18,14 +18,12 @@ package org.openrewrite.java.jackson;
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JRightPadded;
@@ -66,10 +64,12 @@ public class UpdateAutoDetectVisibilityConfiguration extends Recipe {
     @Getter
     final Set<String> tags = singleton("jackson-3");
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesMethod<>(MAPPER_BUILDER_DISABLE_MATCHER),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(MAPPER_BUILDER_DISABLE_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -85,10 +85,11 @@ public class UpdateAutoDetectVisibilityConfiguration extends Recipe {
                         if (visibilityMethod == null) {
                             return mi;
                         }
+                        JacksonRecipeMetrics.templateBuilt();
                         J.MethodInvocation result = JavaTemplate
                                 .builder("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultVisibility(vc -> vc." +
                                         visibilityMethod + "(com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE))")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
+                                .javaParser(JacksonClasspath.parser(ctx,
                                         "jackson-annotations-2",
                                         "jackson-core-3",
                                         "jackson-databind-3"))
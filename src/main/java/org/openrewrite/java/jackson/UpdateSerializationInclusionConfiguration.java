@@ -17,14 +17,12 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JRightPadded;
 import org.openrewrite.java.tree.JavaType;
@@ -51,26 +49,28 @@ public class UpdateSerializationInclusionConfiguration extends Recipe {
     @Getter
     final Set<String> tags = singleton("jackson-3");
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesMethod<>(MAPPER_BUILDER_SERIALIZATION_INCLUSION_MATCHER),
-                        new UsesMethod<>(MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_INCLUDE_MATCHER),
-                        new UsesMethod<>(MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_VALUE_MATCHER),
-                        new UsesMethod<>(OBJECT_MAPPER_SET_SERIALIZATION_INCLUSION_MATCHER)
-                ),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesMethod(
+                        MAPPER_BUILDER_SERIALIZATION_INCLUSION_MATCHER,
+                        MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_INCLUDE_MATCHER,
+                        MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_VALUE_MATCHER,
+                        OBJECT_MAPPER_SET_SERIALIZATION_INCLUSION_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
                         if (MAPPER_BUILDER_SERIALIZATION_INCLUSION_MATCHER.matches(mi) ||
                                 MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_INCLUDE_MATCHER.matches(mi)) {
+                            JacksonRecipeMetrics.templateBuilt();
                             J.MethodInvocation result = JavaTemplate
                                     .builder("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultPropertyInclusion(incl -> incl" +
                                             ".withContentInclusion(#{any(com.fasterxml.jackson.annotation.JsonInclude.Include)})" +
                                             ".withValueInclusion(#{any(com.fasterxml.jackson.annotation.JsonInclude.Include)}))")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
+                                    .javaParser(JacksonClasspath.parser(ctx,
                                             "jackson-annotations-2",
                                             "jackson-core-3",
                                             "jackson-databind-3"))
@@ -85,9 +85,10 @@ public class UpdateSerializationInclusionConfiguration extends Recipe {
                             return fixKotlinLambdaParameterTypeAndBodySpacing(result);
                         }
                         if (MAPPER_BUILDER_DEFAULT_PROPERTY_INCLUSION_VALUE_MATCHER.matches(mi)) {
+                            JacksonRecipeMetrics.templateBuilt();
                             J.MethodInvocation result = JavaTemplate
                                     .builder("#{any(tools.jackson.databind.json.JsonMapper$Builder)}.changeDefaultPropertyInclusion(incl -> #{any(com.fasterxml.jackson.annotation.JsonInclude.Value)})")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx,
+                                    .javaParser(JacksonClasspath.parser(ctx,
                                             "jackson-annotations-2",
                                             "jackson-core-3",
                                             "jackson-databind-3"))
@@ -16,19 +16,24 @@
 package org.openrewrite.java.jackson;
 
 import lombok.Getter;
+import lombok.Value;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.marker.Markers;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 
 public class UseFormatAlignedObjectMappers extends Recipe {
 
@@ -36,6 +41,8 @@ public class UseFormatAlignedObjectMappers extends Recipe {
     private static final String JSON_MAPPER = "com.fasterxml.jackson.databind.json.JsonMapper";
 
     private static final MethodMatcher OBJECT_MAPPER_FACTORY = new MethodMatcher(OBJECT_MAPPER + " <constructor>(com.fasterxml.jackson.core.JsonFactory)");
+    private static final String MAPPER_TYPES = UseFormatAlignedObjectMappers.class.getName() + ".MAPPER_TYPES";
+
     private static final MethodMatcher OBJECT_MAPPER_NO_ARG = new MethodMatcher(OBJECT_MAPPER + " <constructor>()");
 
     @Getter
@@ -55,16 +62,18 @@ public class UseFormatAlignedObjectMappers extends Recipe {
         put("com.fasterxml.jackson.dataformat.yaml.YAMLFactory", "com.fasterxml.jackson.dataformat.yaml.YAMLMapper");
     }};
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>(OBJECT_MAPPER, false), new JavaIsoVisitor<ExecutionContext>() {
+        return JacksonRecipeMetrics.check(this, performance, JacksonUsageIndex.usesType(OBJECT_MAPPER), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                 J.NewClass nc = super.visitNewClass(newClass, ctx);
 
                 if (OBJECT_MAPPER_NO_ARG.matches(nc)) {
                     maybeAddImport(JSON_MAPPER);
-                    return replaceWithMapper(nc, JSON_MAPPER);
+                    return replaceWithMapper(nc, JSON_MAPPER, ctx);
                 }
 
                 if (!OBJECT_MAPPER_FACTORY.matches(nc)) {
@@ -76,26 +85,65 @@ public class UseFormatAlignedObjectMappers extends Recipe {
                 if (target != null) {
                     maybeRemoveImport(source);
                     maybeAddImport(target);
-                    return replaceWithMapper(nc, target);
+                    return replaceWithMapper(nc, target, ctx);
                 }
 
                 return nc; // unsupported factory type
             }
 
-            private J.NewClass replaceWithMapper(J.NewClass nc, String target) {
-                int lastDotIndex = target.lastIndexOf('.');
-                String packageName = target.substring(0, lastDotIndex);
-                String simpleName = target.substring(lastDotIndex + 1);
-                return JavaTemplate.builder("new " + target + "()")
-                        .javaParser(JavaParser.fromJavaVersion().dependsOn(
-                                "package " + packageName + ";\n" +
-                                        "public class " + simpleName + " extends com.fasterxml.jackson.databind.ObjectMapper {\n" +
-                                        "    public " + simpleName + "() {}\n" +
-                                        "}\n"
-                        ))
-                        .build()
-                        .apply(getCursor(), nc.getCoordinates().replace());
+            private J.NewClass replaceWithMapper(J.NewClass nc, String target, ExecutionContext ctx) {
+                MapperType mapper = mapperTypes(ctx).get(target);
+                if (mapper == null) {
+                    return nc;
+                }
+                J.Identifier clazz = new J.Identifier(
+                        Tree.randomId(),
+                        nc.getClazz() == null ? Space.SINGLE_SPACE : nc.getClazz().getPrefix(),
+                        Markers.EMPTY,
+                        emptyList(),
+                        mapper.type.getClassName(),
+                        mapper.type,
+                        null);
+                return nc.withClazz(clazz)
+                        .withArguments(singletonList(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY)))
+                        .withBody(null)
+                        .withConstructorType(mapper.constructor);
             }
         });
     }
+
+    /**
+     * Types of the format-aligned mappers, attributed once per run from a stub of each mapper so
+     * that replacing a constructor call doesn't need a parser or template.
+     */
+    private static Map<String, MapperType> mapperTypes(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(MAPPER_TYPES, k -> {
+            List<String> stubs = new ArrayList<>(FACTORY_TO_MAPPER.size());
+            for (String mapper : FACTORY_TO_MAPPER.values()) {
+                int lastDotIndex = mapper.lastIndexOf('.');
+                String simpleName = mapper.substring(lastDotIndex + 1);
+                stubs.add("package " + mapper.substring(0, lastDotIndex) + ";\n" +
+                        "public class " + simpleName + " extends " + OBJECT_MAPPER + " {\n" +
+                        "    public " + simpleName + "() {}\n" +
+                        "}\n");
+            }
+            Map<String, MapperType> types = new HashMap<>();
+            JavaParser.fromJavaVersion().build()
+                    .parse(ctx, stubs.toArray(new String[0]))
+                    .filter(J.CompilationUnit.class::isInstance)
+                    .map(cu -> ((J.CompilationUnit) cu).getClasses().get(0).getType())
+                    .filter(Objects::nonNull)
+                    .forEach(type -> type.getMethods().stream()
+                            .filter(JavaType.Method::isConstructor)
+                            .findFirst()
+                            .ifPresent(ctor -> types.put(type.getFullyQualifiedName(), new MapperType(type, ctor))));
+            return types;
+        });
+    }
+
+    @Value
+    private static class MapperType {
+        JavaType.FullyQualified type;
+        JavaType.Method constructor;
+    }
 }
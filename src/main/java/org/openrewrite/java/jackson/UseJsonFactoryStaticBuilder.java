@@ -18,14 +18,12 @@ package org.openrewrite.java.jackson;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.J;
 
 import java.util.Set;
@@ -53,10 +51,12 @@ public class UseJsonFactoryStaticBuilder extends Recipe {
             "no longer earns its keep.";
     Set<String> tags = singleton("jackson-3");
 
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(JSON_FACTORY_BUILDER, false),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(JSON_FACTORY_BUILDER),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
@@ -66,10 +66,10 @@ public class UseJsonFactoryStaticBuilder extends Recipe {
                         }
                         maybeRemoveImport(JSON_FACTORY_BUILDER);
                         maybeAddImport(JSON_FACTORY);
+                        JacksonRecipeMetrics.templateBuilt();
                         return JavaTemplate.builder("JsonFactory.builder()")
                                 .imports(JSON_FACTORY)
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "jackson-core-3"))
+                                .javaParser(JacksonClasspath.parser(ctx, "jackson-core-3"))
                                 .build()
                                 .apply(getCursor(), nc.getCoordinates().replace());
                     }
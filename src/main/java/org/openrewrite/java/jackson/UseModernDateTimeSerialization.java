@@ -17,13 +17,12 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.RemoveAnnotationVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -69,10 +68,12 @@ public class UseModernDateTimeSerialization extends Recipe {
     @Getter
     final Set<String> tags = singleton( "jackson-3" );
 
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(JACKSON_JSON_FORMAT, false),
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(JACKSON_JSON_FORMAT),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
@@ -86,6 +87,7 @@ public class UseModernDateTimeSerialization extends Recipe {
                         // Check for @JsonFormat annotations with ISO-8601 patterns
                         for (J.Annotation annotation : vd.getLeadingAnnotations()) {
                             if (JSON_FORMAT_MATCHER.matches(annotation) && isRedundantIso8601Format(annotation)) {
+                                JacksonRecipeMetrics.followUpScheduled();
                                 doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@" + JACKSON_JSON_FORMAT) {
                                     @Override
                                     public boolean matches(J.Annotation ann) {
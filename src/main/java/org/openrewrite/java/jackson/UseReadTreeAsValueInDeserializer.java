@@ -17,16 +17,14 @@ package org.openrewrite.java.jackson;
 
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
-import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.java.tree.Comment;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -38,6 +36,7 @@ import org.openrewrite.marker.Markers;
 import java.util.Set;
 
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 
 @Getter
 public class UseReadTreeAsValueInDeserializer extends Recipe {
@@ -59,63 +58,76 @@ public class UseReadTreeAsValueInDeserializer extends Recipe {
 
     final Set<String> tags = singleton("jackson-3");
 
-    @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(CODEC_TREE_TO_VALUE), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-                if (!CODEC_TREE_TO_VALUE.matches(mi)) {
-                    return mi;
-                }
-                J.Identifier ctxtIdent = enclosingDeserializationContextParam();
-                if (ctxtIdent == null) {
-                    return addTodoComment(mi);
-                }
-                return JavaTemplate.builder(
-                        "#{any(com.fasterxml.jackson.databind.DeserializationContext)}" +
-                        ".readTreeAsValue(#{any(com.fasterxml.jackson.databind.JsonNode)}, #{any(java.lang.Class)})")
-                        .javaParser(JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx,
-                                        "jackson-annotations-2",
-                                        "jackson-core-2",
-                                        "jackson-databind-2"))
-                        .build()
-                        .apply(getCursor(), mi.getCoordinates().replace(),
-                                ctxtIdent, mi.getArguments().get(0), mi.getArguments().get(1));
+    private final transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    /**
+     * Shared with {@link MigrateJacksonApiCalls}.
+     */
+    static final InvocationRewrite REWRITE = new InvocationRewrite(OBJECT_CODEC, "treeToValue") {
+        @Override
+        TreeVisitor<?, ExecutionContext> precondition() {
+            return JacksonUsageIndex.usesMethod(CODEC_TREE_TO_VALUE);
+        }
+
+        @Override
+        J rewrite(J.MethodInvocation mi, InvocationRewrite.Visitor visitor, ExecutionContext ctx) {
+            if (!CODEC_TREE_TO_VALUE.matches(mi)) {
+                return mi;
+            }
+            J.Identifier ctxtIdent = enclosingDeserializationContextParam(visitor.getCursor());
+            if (ctxtIdent == null) {
+                return addTodoComment(mi);
             }
+            JacksonRecipeMetrics.templateBuilt();
+            return JavaTemplate.builder(
+                    "#{any(com.fasterxml.jackson.databind.DeserializationContext)}" +
+                    ".readTreeAsValue(#{any(com.fasterxml.jackson.databind.JsonNode)}, #{any(java.lang.Class)})")
+                    .javaParser(JacksonClasspath.parser(ctx,
+                            "jackson-annotations-2",
+                            "jackson-core-2",
+                            "jackson-databind-2"))
+                    .build()
+                    .apply(visitor.getCursor(), mi.getCoordinates().replace(),
+                            ctxtIdent, mi.getArguments().get(0), mi.getArguments().get(1));
+        }
 
-            private J.MethodInvocation addTodoComment(J.MethodInvocation mi) {
-                for (Comment c : mi.getComments()) {
-                    if (c instanceof TextComment && ((TextComment) c).getText().contains(COMMENT_MARKER)) {
-                        return mi;
-                    }
+        private J.MethodInvocation addTodoComment(J.MethodInvocation mi) {
+            for (Comment c : mi.getComments()) {
+                if (c instanceof TextComment && ((TextComment) c).getText().contains(COMMENT_MARKER)) {
+                    return mi;
                 }
-                TextComment todo = new TextComment(true, " " + COMMENT_MARKER + " ",
-                        mi.getPrefix().getWhitespace(), Markers.EMPTY);
-                return mi.withComments(ListUtils.concat(mi.getComments(), todo));
             }
+            TextComment todo = new TextComment(true, " " + COMMENT_MARKER + " ",
+                    mi.getPrefix().getWhitespace(), Markers.EMPTY);
+            return mi.withComments(ListUtils.concat(mi.getComments(), todo));
+        }
 
-            private J.@Nullable Identifier enclosingDeserializationContextParam() {
-                J.MethodDeclaration enclosing = getCursor().firstEnclosing(J.MethodDeclaration.class);
-                if (enclosing == null) {
-                    return null;
+        private J.@Nullable Identifier enclosingDeserializationContextParam(Cursor cursor) {
+            J.MethodDeclaration enclosing = cursor.firstEnclosing(J.MethodDeclaration.class);
+            if (enclosing == null) {
+                return null;
+            }
+            for (Statement param : enclosing.getParameters()) {
+                if (!(param instanceof J.VariableDeclarations)) {
+                    continue;
                 }
-                for (Statement param : enclosing.getParameters()) {
-                    if (!(param instanceof J.VariableDeclarations)) {
-                        continue;
-                    }
-                    J.VariableDeclarations vd = (J.VariableDeclarations) param;
-                    if (!TypeUtils.isOfClassType(vd.getType(), DESERIALIZATION_CONTEXT) ||
-                            vd.getVariables().isEmpty()) {
-                        continue;
-                    }
-                    J.VariableDeclarations.NamedVariable var = vd.getVariables().get(0);
-                    JavaType type = var.getType() != null ? var.getType() : vd.getType();
-                    return var.getName().withType(type);
+                J.VariableDeclarations vd = (J.VariableDeclarations) param;
+                if (!TypeUtils.isOfClassType(vd.getType(), DESERIALIZATION_CONTEXT) ||
+                        vd.getVariables().isEmpty()) {
+                    continue;
                 }
-                return null;
+                J.VariableDeclarations.NamedVariable var = vd.getVariables().get(0);
+                JavaType type = var.getType() != null ? var.getType() : vd.getType();
+                return var.getName().withType(type);
             }
-        });
+            return null;
+        }
+    };
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                REWRITE.precondition(),
+                new InvocationRewrite.Visitor(singletonList(REWRITE)));
     }
 }
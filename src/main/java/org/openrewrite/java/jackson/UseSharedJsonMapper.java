@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseSharedJsonMapper extends Recipe {
+
+    private static final String JSON_MAPPER = "tools.jackson.databind.json.JsonMapper";
+    private static final MethodMatcher BUILD = new MethodMatcher("tools.jackson.databind.cfg.MapperBuilder build()", true);
+
+    /**
+     * The Jackson 3 names of {@link MigrateMapperSettersToBuilder#ALL_MAPPERS}, with matchers for their
+     * no-argument constructor and {@code builder()}.
+     */
+    private static final Map<String, MethodMatcher[]> MAPPERS = new LinkedHashMap<>();
+
+    static {
+        for (String mapper : MigrateMapperSettersToBuilder.ALL_MAPPERS) {
+            String jackson3 = mapper.replace("com.fasterxml.jackson.", "tools.jackson.");
+            MAPPERS.put(jackson3, new MethodMatcher[]{
+                    new MethodMatcher(jackson3 + " <constructor>()"),
+                    new MethodMatcher(jackson3 + " builder()")
+            });
+        }
+    }
+
+    String displayName = "Use `JsonMapper.shared()` for default-configured mappers";
+
+    String description = "Jackson 3 mappers are immutable, so a `JsonMapper` built without any configuration behaves " +
+            "exactly like the process-wide instance returned by `JsonMapper.shared()`, except that it warms up its own " +
+            "serializer and deserializer caches. Replace `new JsonMapper()` and `JsonMapper.builder().build()` with " +
+            "`JsonMapper.shared()`, and do the same for any other format-aligned mapper that declares a static `shared()` method.";
+
+    Set<String> tags = singleton("jackson-3");
+
+    transient JacksonRecipePerformance performance = new JacksonRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return JacksonRecipeMetrics.check(this, performance,
+                JacksonUsageIndex.usesType(MAPPERS.keySet().toArray(new String[0])),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        J j = super.visitNewClass(newClass, ctx);
+                        if (!(j instanceof J.NewClass)) {
+                            return j;
+                        }
+                        J.NewClass nc = (J.NewClass) j;
+                        // A subclass is not the shared instance
+                        if (nc.getBody() != null || !(nc.getClazz() instanceof J.Identifier || nc.getClazz() instanceof J.FieldAccess)) {
+                            return nc;
+                        }
+                        String mapper = matchingMapper(nc, 0);
+                        return mapper == null ? nc : shared(nc, (Expression) nc.getClazz(), mapper, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation) || !BUILD.matches((J.MethodInvocation) j) ||
+                            !(((J.MethodInvocation) j).getSelect() instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) j;
+                        // Only a builder created and built in one chain is known to be unconfigured
+                        J.MethodInvocation builder = (J.MethodInvocation) mi.getSelect();
+                        String mapper = matchingMapper(builder, 1);
+                        if (mapper == null || builder.getSelect() == null) {
+                            return mi;
+                        }
+                        return shared(mi, builder.getSelect(), mapper, ctx);
+                    }
+
+                    /**
+                     * Replaces a mapper construction with a call to its type's {@code shared()}.
+                     */
+                    private J shared(J construction, Expression mapperClass, String mapper, ExecutionContext ctx) {
+                        Space prefix = construction.getPrefix();
+                        JavaType.Method sharedMethod = sharedMethod(mapperClass.getType());
+                        if (sharedMethod != null) {
+                            J.Identifier name = new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                                    "shared", sharedMethod, null);
+                            return new J.MethodInvocation(Tree.randomId(), prefix, construction.getMarkers(),
+                                    JRightPadded.build(mapperClass.withPrefix(Space.EMPTY)), null, name,
+                                    JContainer.build(Space.EMPTY,
+                                            singletonList(JRightPadded.build(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY))),
+                                            Markers.EMPTY),
+                                    sharedMethod);
+                        }
+                        // The type was carried over from Jackson 2, which has no shared instance to attribute the call to,
+                        // so it is attributed from a template; those only support Java sources
+                        if (!JSON_MAPPER.equals(mapper) || !(getCursor().firstEnclosing(JavaSourceFile.class) instanceof J.CompilationUnit)) {
+                            return construction;
+                        }
+                        maybeAddImport(JSON_MAPPER);
+                        JacksonRecipeMetrics.templateBuilt();
+                        return JavaTemplate.builder("JsonMapper.shared()")
+                                .imports(JSON_MAPPER)
+                                .javaParser(JacksonClasspath.parser(ctx,
+                                        "jackson-annotations-2",
+                                        "jackson-core-3",
+                                        "jackson-databind-3"))
+                                .build()
+                                .apply(getCursor(), ((Statement) construction).getCoordinates().replace())
+                                .withPrefix(prefix);
+                    }
+                });
+    }
+
+    /**
+     * The mapper type that the construction matches one of the {@link #MAPPERS} matchers of.
+     */
+    private static @Nullable String matchingMapper(Expression construction, int matcher) {
+        for (Map.Entry<String, MethodMatcher[]> mapper : MAPPERS.entrySet()) {
+            if (mapper.getValue()[matcher].matches(construction)) {
+                return mapper.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static JavaType.@Nullable Method sharedMethod(@Nullable JavaType mapperType) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(mapperType);
+        if (type == null) {
+            return null;
+        }
+        for (JavaType.Method method : type.getMethods()) {
+            if ("shared".equals(method.getName()) && method.getParameterTypes().isEmpty() &&
+                method.getFlags().contains(Flag.Static) && TypeUtils.isOfType(type, method.getReturnType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+}
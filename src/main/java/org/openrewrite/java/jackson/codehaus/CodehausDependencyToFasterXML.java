@@ -21,9 +21,10 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 import org.openrewrite.java.dependencies.AddDependency;
-import org.openrewrite.java.dependencies.ChangeDependency;
+import org.openrewrite.java.jackson.ChangeJacksonDependencies;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Value
@@ -45,20 +46,9 @@ public class CodehausDependencyToFasterXML extends Recipe {
     public List<Recipe> getRecipeList() {
         List<Recipe> recipes = new ArrayList<>();
         String newVersion = version == null ? "2.x" : version;
-        recipes.add(new ChangeDependency(
-                "org.codehaus.jackson",
-                "jackson-core-asl",
-                "com.fasterxml.jackson.core",
-                "jackson-core",
-                newVersion,
-                null, null, null));
-        recipes.add(new ChangeDependency(
-                "org.codehaus.jackson",
-                "jackson-mapper-asl",
-                "com.fasterxml.jackson.core",
-                "jackson-databind",
-                newVersion,
-                null, null, null));
+        recipes.add(new ChangeJacksonDependencies(Arrays.asList(
+                "org.codehaus.jackson:jackson-core-asl=com.fasterxml.jackson.core:jackson-core:" + newVersion,
+                "org.codehaus.jackson:jackson-mapper-asl=com.fasterxml.jackson.core:jackson-databind:" + newVersion)));
         recipes.add(new AddDependency(
                 "com.fasterxml.jackson.core",
                 "jackson-databind",
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class JacksonRecipePerformance extends DataTable<JacksonRecipePerformance.Row> {
+
+    /**
+     * The execution context message that turns this table on, as in
+     * {@code ctx.putMessage(JacksonRecipePerformance.ENABLED, true)}. Without it, no rows are recorded.
+     */
+    public static final String ENABLED = "org.openrewrite.java.jackson.recordRecipePerformance";
+
+    public JacksonRecipePerformance(Recipe recipe) {
+        super(recipe,
+                "Jackson recipe performance",
+                "Time spent, bytes allocated, templates built and follow-up passes scheduled by each Jackson migration " +
+                "recipe, per source file. Only recorded when the `" + ENABLED + "` execution context message is set. " +
+                "Aggregate by recipe to find where a migration run spends its time. Every source file is reported " +
+                "in the first cycle; later cycles only report the source files a recipe still changed, which a " +
+                "migration that converges in a single cycle never does.");
+    }
+
+    @Override
+    protected boolean allowWritingInThisCycle(ExecutionContext ctx) {
+        // JacksonRecipeMetrics only inserts rows for changes after the first cycle
+        return true;
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file the recipe was run against.")
+        String sourcePath;
+
+        @Column(displayName = "Recipe",
+                description = "The name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Precondition matched",
+                description = "Whether the recipe's precondition matched. When it did not, the recipe skipped the " +
+                        "source file without visiting it.")
+        boolean preconditionMatched;
+
+        @Column(displayName = "Visit time (ns)",
+                description = "Wall time spent in the recipe's precondition and visitor for this source file, excluding " +
+                        "Jackson recipes it ran as follow-up passes, which are reported in rows of their own.")
+        long visitTimeNanos;
+
+        @Column(displayName = "Allocated bytes",
+                description = "Bytes allocated on the visiting thread by the recipe's precondition and visitor for this " +
+                        "source file, excluding Jackson recipes it ran as follow-up passes, or -1 when the JVM doesn't " +
+                        "measure allocation per thread.")
+        long allocatedBytes;
+
+        @Column(displayName = "Template builds",
+                description = "The number of `JavaTemplate` instances the recipe compiled while visiting this source file, " +
+                        "excluding those of Jackson recipes it ran as follow-up passes.")
+        int templateBuilds;
+
+        @Column(displayName = "Follow-up passes",
+                description = "The number of visitors the recipe scheduled to pass over this source file again after " +
+                        "its own visit, such as to clean up after the changes it made.")
+        int followUpPasses;
+
+        @Column(displayName = "Changed",
+                description = "Whether the recipe changed the source file.")
+        boolean changed;
+
+        @Column(displayName = "Cycle",
+                description = "The recipe cycle the source file was visited in, starting at 1.")
+        int cycle;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ObjectMapperConstructionSites extends DataTable<ObjectMapperConstructionSites.Row> {
+
+    public ObjectMapperConstructionSites(Recipe recipe) {
+        super(recipe,
+                "Jackson mapper construction sites",
+                "Every place a Jackson mapper or factory is constructed, classified by how often the construction " +
+                "is likely to run. Sort by risk to find mappers that are built per call.");
+    }
+
+    /**
+     * Where a mapper is constructed, from the most to the least likely to run on every call.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Risk {
+        LOOP_BODY("loop body"),
+        LAMBDA("lambda"),
+        METHOD_BODY("method body"),
+        INSTANCE_FIELD("instance field"),
+        SPRING_BEAN("Spring @Bean"),
+        STATIC_FIELD("static field");
+
+        private final String description;
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path to the source file containing the construction.")
+        String sourcePath;
+
+        @Column(displayName = "Class",
+                description = "The fully qualified name of the class containing the construction.")
+        String className;
+
+        @Column(displayName = "Method",
+                description = "The name of the method containing the construction, if any.")
+        @Nullable
+        String methodName;
+
+        @Column(displayName = "Constructed type",
+                description = "The fully qualified name of the mapper, factory or builder type that is constructed.")
+        String constructedType;
+
+        @Column(displayName = "Risk",
+                description = "Where the construction happens: `LOOP_BODY`, `LAMBDA`, `METHOD_BODY`, `INSTANCE_FIELD`, " +
+                        "`SPRING_BEAN` or `STATIC_FIELD`, from the most to the least likely to run on every call.")
+        Risk risk;
+    }
+}
@@ -32,12 +32,13 @@ class AddMissingJacksonDependenciesTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipeFromResources("org.openrewrite.java.jackson.AddMissingJacksonDependencies")
+        spec.recipe(new AddMissingJacksonDependencies())
           .parser(JavaParser.fromJavaVersion()
             .classpathFromResources(new InMemoryExecutionContext(),
               "jackson-core-2",
               "jackson-databind-2",
-              "jackson-dataformat-xml-2"));
+              "jackson-dataformat-xml-2",
+              "jackson-dataformat-yaml-2"));
     }
 
     @DocumentExample
@@ -120,4 +121,56 @@ class AddMissingJacksonDependenciesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void addEveryUsedDataformatToTheBuildFile() {
+        rewriteRun(
+          mavenProject("project",
+            srcMainJava(
+              java(
+                """
+                  import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+                  class A {
+                      XmlMapper mapper = new XmlMapper();
+                  }
+                  """
+              ),
+              java(
+                """
+                  import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+
+                  class B {
+                      YAMLMapper mapper = new YAMLMapper();
+                  }
+                  """
+              )
+            ),
+            pomXml(
+              //language=xml
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.example</groupId>
+                    <artifactId>example</artifactId>
+                    <version>1.0.0</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>com.fasterxml.jackson.core</groupId>
+                            <artifactId>jackson-databind</artifactId>
+                            <version>2.17.3</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """,
+              spec -> spec.after(pom ->
+                assertThat(pom)
+                  .contains(">jackson-dataformat-xml<")
+                  .contains(">jackson-dataformat-yaml<")
+                  .doesNotContain(">jackson-dataformat-csv<")
+                  .actual())
+            )
+          )
+        );
+    }
 }
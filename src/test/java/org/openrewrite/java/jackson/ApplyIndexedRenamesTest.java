@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class ApplyIndexedRenamesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ApplyIndexedRenames(asList(
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3_MethodRenames",
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3_RelocatedFeatureConstants",
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3_TypeChanges",
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3_PackageChanges")))
+          .parser(JavaParser.fromJavaVersion().classpath(
+            "jackson-annotations", "jackson-core", "jackson-databind"));
+    }
+
+    @DocumentExample
+    @Test
+    void methodTypeAndPackageRenames() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.JsonSerializer;
+              import com.fasterxml.jackson.databind.SerializerProvider;
+
+              class Test extends JsonSerializer<Object> {
+                  @Override
+                  public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws java.io.IOException {
+                      gen.writeObject(value);
+                  }
+              }
+              """,
+            """
+              import tools.jackson.core.JsonGenerator;
+              import tools.jackson.databind.SerializationContext;
+              import tools.jackson.databind.ValueSerializer;
+
+              class Test extends ValueSerializer<Object> {
+                  @Override
+                  public void serialize(Object value, JsonGenerator gen, SerializationContext provider) throws java.io.IOException {
+                      gen.writePOJO(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void relocatedConstant() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  void configure(ObjectMapper mapper) {
+                      mapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                  }
+              }
+              """,
+            """
+              import tools.jackson.databind.ObjectMapper;
+              import tools.jackson.databind.cfg.DateTimeFeature;
+
+              class Test {
+                  void configure(ObjectMapper mapper) {
+                      mapper.enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyPackageRenames() {
+        rewriteRun(
+          spec -> spec.recipe(new ApplyIndexedRenames(singletonList(
+            "org.openrewrite.java.jackson.UpgradeJackson_2_3_PackageChanges"))),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper mapper;
+              }
+              """,
+            """
+              import tools.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper mapper;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void unusedImportAndJavadocLink() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              /**
+               * Reads {@link JsonNode} trees.
+               */
+              class Test {
+              }
+              """,
+            """
+              import tools.jackson.databind.JsonNode;
+              import tools.jackson.databind.ObjectMapper;
+
+              /**
+               * Reads {@link JsonNode} trees.
+               */
+              class Test {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noJacksonUsage() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  String name() {
+                      return "jackson";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void rejectsScanningRecipes() {
+        // The dependency version upgrades are scanning recipes, whose scanning phase a single pass would skip
+        assertThat(new ApplyIndexedRenames(singletonList("org.openrewrite.java.jackson.UpgradeJackson_2_3_Dependencies"))
+          .validate().isInvalid()).isTrue();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class ChangeJacksonDependenciesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ChangeJacksonDependencies(asList(
+          "com.fasterxml.jackson.core:jackson-databind=tools.jackson.core:jackson-databind:3.0.0",
+          "com.fasterxml.jackson.dataformat:*=tools.jackson.dataformat:*:3.0.0",
+          "org.codehaus.jackson:jackson-mapper-asl=com.fasterxml.jackson.core:jackson-databind:2.19.2")));
+    }
+
+    @DocumentExample
+    @Test
+    void relocationsForGroupIdsInTheBuildFile() {
+        rewriteRun(
+          pomXml(
+            //language=xml
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-databind</artifactId>
+                          <version>2.19.2</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.dataformat</groupId>
+                          <artifactId>jackson-dataformat-yaml</artifactId>
+                          <version>2.19.2</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            //language=xml
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>tools.jackson.core</groupId>
+                          <artifactId>jackson-databind</artifactId>
+                          <version>3.0.0</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>tools.jackson.dataformat</groupId>
+                          <artifactId>jackson-dataformat-yaml</artifactId>
+                          <version>3.0.0</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void laterRelocationAppliesToEarlierResult() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeJacksonDependencies(asList(
+            "org.codehaus.jackson:jackson-mapper-asl=com.fasterxml.jackson.core:jackson-databind:2.19.2",
+            "com.fasterxml.jackson.core:jackson-databind=tools.jackson.core:jackson-databind:3.0.0"))),
+          pomXml(
+            //language=xml
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.codehaus.jackson</groupId>
+                          <artifactId>jackson-mapper-asl</artifactId>
+                          <version>1.9.13</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            spec -> spec.after(pom ->
+              assertThat(pom)
+                .contains("<groupId>tools.jackson.core</groupId>")
+                .contains("<version>3.0.0</version>")
+                .actual())
+          )
+        );
+    }
+
+    @Test
+    void otherArtifactsOfRelocatedGroupIdsAreKept() {
+        rewriteRun(
+          pomXml(
+            //language=xml
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.example</groupId>
+                  <artifactId>example</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.fasterxml.jackson.core</groupId>
+                          <artifactId>jackson-annotations</artifactId>
+                          <version>2.19.2</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void invalidRelocation() {
+        assertThat(new ChangeJacksonDependencies(singletonList("com.fasterxml.jackson.core:jackson-databind")).validate().isInvalid())
+          .isTrue();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.jackson.table.ObjectMapperConstructionSites;
+import org.openrewrite.java.jackson.table.ObjectMapperConstructionSites.Risk;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class FindObjectMapperConstructionSitesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindObjectMapperConstructionSites())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "jackson-annotations-2", "jackson-core-2", "jackson-databind-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void classifyConstructionSites() {
+        rewriteRun(
+          spec -> spec.dataTable(ObjectMapperConstructionSites.Row.class, rows ->
+            assertThat(rows)
+              .extracting(ObjectMapperConstructionSites.Row::getMethodName, ObjectMapperConstructionSites.Row::getRisk)
+              .containsExactlyInAnyOrder(
+                tuple(null, Risk.STATIC_FIELD),
+                tuple(null, Risk.INSTANCE_FIELD),
+                tuple("write", Risk.METHOD_BODY),
+                tuple("writeAll", Risk.LOOP_BODY),
+                tuple("toTrees", Risk.LAMBDA)
+              )),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  private static final ObjectMapper SHARED = JsonMapper.builder().build();
+                  private final ObjectMapper perInstance = new ObjectMapper();
+
+                  String write(Object value) throws Exception {
+                      return new ObjectMapper().writeValueAsString(value);
+                  }
+
+                  void writeAll(List<Object> values) throws Exception {
+                      for (Object value : values) {
+                          System.out.println(new JsonMapper().writeValueAsString(value));
+                      }
+                  }
+
+                  List<JsonNode> toTrees(List<Object> values) {
+                      return values.stream()
+                              .map(v -> new ObjectMapper().<JsonNode>valueToTree(v))
+                              .collect(Collectors.toList());
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  private static final ObjectMapper SHARED = /*~~(static field)~~>*/JsonMapper.builder().build();
+                  private final ObjectMapper perInstance = /*~~(instance field)~~>*/new ObjectMapper();
+
+                  String write(Object value) throws Exception {
+                      return /*~~(method body)~~>*/new ObjectMapper().writeValueAsString(value);
+                  }
+
+                  void writeAll(List<Object> values) throws Exception {
+                      for (Object value : values) {
+                          System.out.println(/*~~(loop body)~~>*/new JsonMapper().writeValueAsString(value));
+                      }
+                  }
+
+                  List<JsonNode> toTrees(List<Object> values) {
+                      return values.stream()
+                              .map(v -> /*~~(lambda)~~>*/new ObjectMapper().<JsonNode>valueToTree(v))
+                              .collect(Collectors.toList());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void springBeanAndFactory() {
+        rewriteRun(
+          spec -> spec.dataTable(ObjectMapperConstructionSites.Row.class, rows ->
+            assertThat(rows)
+              .extracting(ObjectMapperConstructionSites.Row::getConstructedType, ObjectMapperConstructionSites.Row::getRisk)
+              .containsExactlyInAnyOrder(
+                tuple("com.fasterxml.jackson.databind.ObjectMapper", Risk.SPRING_BEAN),
+                tuple("com.fasterxml.jackson.core.JsonFactory", Risk.METHOD_BODY)
+              )),
+          //language=java
+          java(
+            """
+              package org.springframework.context.annotation;
+
+              public @interface Bean {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.springframework.context.annotation.Bean;
+
+              class JacksonConfiguration {
+                  @Bean
+                  ObjectMapper objectMapper() {
+                      return new ObjectMapper();
+                  }
+
+                  JsonFactory jsonFactory() {
+                      return new JsonFactory();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonFactory;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import org.springframework.context.annotation.Bean;
+
+              class JacksonConfiguration {
+                  @Bean
+                  ObjectMapper objectMapper() {
+                      return /*~~(Spring @Bean)~~>*/new ObjectMapper();
+                  }
+
+                  JsonFactory jsonFactory() {
+                      return /*~~(method body)~~>*/new JsonFactory();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noConstruction() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  String write(ObjectMapper mapper, Object value) throws Exception {
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistObjectMapperToStaticFieldTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new HoistObjectMapperToStaticField())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "jackson-annotations-2", "jackson-core-2", "jackson-databind-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void hoistConfiguredLocalMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  String write(Object value) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = JsonMapper.builder()
+                          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                          .enable(SerializationFeature.INDENT_OUTPUT)
+                          .build();
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void defaultPropertyInclusionOfIncludeBecomesSerializationInclusion() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  String write(Object value) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = JsonMapper.builder()
+                          .serializationInclusion(JsonInclude.Include.NON_NULL)
+                          .build();
+
+                  String write(Object value) throws Exception {
+                      return MAPPER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistFromLambdaAndDeduplicate() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  List<JsonNode> toTrees(List<Object> values) {
+                      return values.stream()
+                              .map(v -> new ObjectMapper().<JsonNode>valueToTree(v))
+                              .collect(Collectors.toList());
+                  }
+
+                  String write(Object value) throws Exception {
+                      return new ObjectMapper().writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class Test {
+                  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+                  List<JsonNode> toTrees(List<Object> values) {
+                      return values.stream()
+                              .map(v -> OBJECT_MAPPER.<JsonNode>valueToTree(v))
+                              .collect(Collectors.toList());
+                  }
+
+                  String write(Object value) throws Exception {
+                      return OBJECT_MAPPER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseExistingStaticField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper JSON = new ObjectMapper();
+
+                  String write(Object value) throws Exception {
+                      for (int i = 0; i < 3; i++) {
+                          ObjectMapper mapper = new ObjectMapper();
+                          System.out.println(mapper.writeValueAsString(value));
+                      }
+                      return JSON.writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper JSON = new ObjectMapper();
+
+                  String write(Object value) throws Exception {
+                      for (int i = 0; i < 3; i++) {
+                          System.out.println(JSON.writeValueAsString(value));
+                      }
+                      return JSON.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMapperConfiguredFromParameter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  String write(Object value, boolean pretty) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.configure(SerializationFeature.INDENT_OUTPUT, pretty);
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepEscapingMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper create() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      return mapper;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMapperWhoseFactoryIsReconfigured() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonParser;
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  JsonNode read(String json) throws Exception {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.getFactory().enable(JsonParser.Feature.ALLOW_COMMENTS);
+                      return mapper.readTree(json);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMapperInInnerClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  class Inner {
+                      String write(Object value) throws Exception {
+                          return new ObjectMapper().writeValueAsString(value);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistObjectReaderToStaticFieldTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new HoistObjectReaderToStaticField())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "jackson-annotations-2", "jackson-core-2", "jackson-databind-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void shareReaderForClassLiteral() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static class Foo {
+                      public String name;
+                  }
+
+                  Foo parse(String json) throws Exception {
+                      return MAPPER.readValue(json, Foo.class);
+                  }
+
+                  Foo parse(byte[] json) throws Exception {
+                      return MAPPER.readValue(json, Foo.class);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectReader;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectReader FOO_READER = MAPPER.readerFor(Foo.class);
+
+                  static class Foo {
+                      public String name;
+                  }
+
+                  Foo parse(String json) throws Exception {
+                      return FOO_READER.readValue(json);
+                  }
+
+                  Foo parse(byte[] json) throws Exception {
+                      return FOO_READER.readValue(json);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void typeReference() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.Map;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  Map<String, Integer> parse(String json) throws Exception {
+                      return MAPPER.readValue(json, new TypeReference<Map<String, Integer>>() {});
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectReader;
+
+              import java.util.Map;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectReader MAP_STRING_INTEGER_READER = MAPPER.readerFor(new TypeReference<Map<String, Integer>>() {});
+
+                  Map<String, Integer> parse(String json) throws Exception {
+                      return MAP_STRING_INTEGER_READER.readValue(json);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepInstanceMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private final ObjectMapper mapper;
+
+                  Test(ObjectMapper mapper) {
+                      this.mapper = mapper;
+                  }
+
+                  String parse(String json) throws Exception {
+                      return mapper.readValue(json, String.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMapperReconfiguredFromOtherClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  String parse(String json) throws Exception {
+                      return MAPPER.readValue(json, String.class);
+                  }
+              }
+
+              class Config {
+                  void lenient() {
+                      Test.MAPPER.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepTypeVariableTarget() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.type.TypeReference;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  <T> List<T> parse(String json, Class<T> type) throws Exception {
+                      return MAPPER.readValue(json, new TypeReference<List<T>>() {});
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepChainedRead() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static class Foo {
+                      public String name;
+
+                      String getName() {
+                          return name;
+                      }
+                  }
+
+                  String name(String json) throws Exception {
+                      return MAPPER.readValue(json, Foo.class).getName();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepReadIntoVar() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static class Foo {
+                      public String name;
+                  }
+
+                  String name(String json) throws Exception {
+                      var foo = MAPPER.readValue(json, Foo.class);
+                      return foo.name;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepReadAsMethodArgument() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static class Foo {
+                      public String name;
+                  }
+
+                  void print(Foo foo) {
+                      System.out.println(foo.name);
+                  }
+
+                  void print(Object o) {
+                      System.out.println(o);
+                  }
+
+                  void parse(String json) throws Exception {
+                      print(MAPPER.readValue(json, Foo.class));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistObjectWriterToStaticFieldTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new HoistObjectWriterToStaticField())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "jackson-annotations-2", "jackson-core-2", "jackson-databind-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void writerForFinalClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static final class Event {
+                      public String name;
+                  }
+
+                  String toJson(Event event) throws Exception {
+                      return MAPPER.writeValueAsString(event);
+                  }
+
+                  byte[] toBytes(Event event) throws Exception {
+                      return MAPPER.writeValueAsBytes(event);
+                  }
+
+                  String toPrettyJson(Event event) throws Exception {
+                      return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(event);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.ObjectWriter;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectWriter EVENT_WRITER = MAPPER.writerFor(Event.class);
+                  private static final ObjectWriter EVENT_PRETTY_WRITER = MAPPER.writerFor(Event.class).withDefaultPrettyPrinter();
+
+                  static final class Event {
+                      public String name;
+                  }
+
+                  String toJson(Event event) throws Exception {
+                      return EVENT_WRITER.writeValueAsString(event);
+                  }
+
+                  byte[] toBytes(Event event) throws Exception {
+                      return EVENT_WRITER.writeValueAsBytes(event);
+                  }
+
+                  String toPrettyJson(Event event) throws Exception {
+                      return EVENT_PRETTY_WRITER.writeValueAsString(event);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepNonFinalValueType() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static class Event {
+                      public String name;
+                  }
+
+                  String toJson(Event event) throws Exception {
+                      return MAPPER.writeValueAsString(event);
+                  }
+
+                  String toJson(List<String> names) throws Exception {
+                      return MAPPER.writeValueAsString(names);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMapperReconfiguredInInitMethod() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  static final class Event {
+                      public String name;
+                  }
+
+                  void init() {
+                      MAPPER.configure(SerializationFeature.INDENT_OUTPUT, true);
+                  }
+
+                  String toJson(Event event) throws Exception {
+                      return MAPPER.writeValueAsString(event);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepLocalMapper() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  String toJson(ObjectMapper mapper, String value) throws Exception {
+                      return mapper.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void jackson3Mapper() {
+        rewriteRun(
+          spec -> spec.parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "jackson-annotations-2", "jackson-core-3", "jackson-databind-3")),
+          //language=java
+          java(
+            """
+              import tools.jackson.databind.ObjectMapper;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+                  String toJson(String value) {
+                      return MAPPER.writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import tools.jackson.databind.ObjectMapper;
+              import tools.jackson.databind.ObjectWriter;
+
+              class Test {
+                  private static final ObjectMapper MAPPER = new ObjectMapper();
+                  private static final ObjectWriter STRING_WRITER = MAPPER.writerFor(String.class);
+
+                  String toJson(String value) {
+                      return STRING_WRITER.writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
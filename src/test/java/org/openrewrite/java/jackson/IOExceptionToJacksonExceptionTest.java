@@ -339,4 +339,55 @@ class IOExceptionToJacksonExceptionTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void nestedTryBlocks() {
+        rewriteRun(
+          java(
+            """
+              import java.io.IOException;
+              import java.io.FileInputStream;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  void readAndDeserialize() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      try {
+                          byte[] data = new FileInputStream("data.json").readAllBytes();
+                          try {
+                              mapper.readValue(data, String.class);
+                          } catch (IOException e) {
+                              throw new IllegalArgumentException(e);
+                          }
+                      } catch (IOException e) {
+                          throw new RuntimeException(e);
+                      }
+                  }
+              }
+              """,
+            """
+              import java.io.IOException;
+              import java.io.FileInputStream;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import tools.jackson.core.JacksonException;
+
+              class Test {
+                  void readAndDeserialize() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      try {
+                          byte[] data = new FileInputStream("data.json").readAllBytes();
+                          try {
+                              mapper.readValue(data, String.class);
+                          } catch (JacksonException e) {
+                              throw new IllegalArgumentException(e);
+                          }
+                      } catch (JacksonException | IOException e) {
+                          throw new RuntimeException(e);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
 }
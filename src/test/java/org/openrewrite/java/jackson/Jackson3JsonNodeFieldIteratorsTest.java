@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class Jackson3JsonNodeFieldIteratorsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new Jackson3JsonNodeFieldIterators())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jackson-annotations-2", "jackson-core-2", "jackson-databind-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void allThreeIterators() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              import java.util.Iterator;
+              import java.util.Map;
+
+              class Test {
+                  void iterate(JsonNode node) {
+                      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                      Iterator<String> names = node.fieldNames();
+                      Iterator<JsonNode> elements = node.elements();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              import java.util.Iterator;
+              import java.util.Map;
+
+              class Test {
+                  void iterate(JsonNode node) {
+                      Iterator<Map.Entry<String, JsonNode>> fields = node.properties().iterator();
+                      Iterator<String> names = node.propertyNames().iterator();
+                      Iterator<JsonNode> elements = node.values().iterator();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void overridingSubclass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+              import com.fasterxml.jackson.databind.node.ObjectNode;
+
+              import java.util.Iterator;
+
+              class LoggingNode extends ObjectNode {
+                  LoggingNode() {
+                      super(JsonNodeFactory.instance);
+                  }
+
+                  @Override
+                  public Iterator<JsonNode> elements() {
+                      System.out.println("elements");
+                      return super.elements();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+              import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+              import com.fasterxml.jackson.databind.node.ObjectNode;
+
+              import java.util.Iterator;
+
+              class LoggingNode extends ObjectNode {
+                  LoggingNode() {
+                      super(JsonNodeFactory.instance);
+                  }
+
+                  @Override
+                  public Iterator<JsonNode> values() {
+                      System.out.println("elements");
+                      return super.values().iterator();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void methodReference() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              import java.util.Iterator;
+              import java.util.function.Function;
+
+              class Test {
+                  Function<JsonNode, Iterator<String>> names() {
+                      return JsonNode::fieldNames;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JsonNode;
+
+              import java.util.Iterator;
+              import java.util.function.Function;
+
+              class Test {
+                  Function<JsonNode, Iterator<String>> names() {
+                      return JsonNode::propertyNames;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
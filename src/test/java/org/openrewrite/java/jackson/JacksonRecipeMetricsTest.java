@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.openrewrite.java.Assertions.java;
+
+class JacksonRecipeMetricsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ReplaceObjectMapperCopy())
+          .executionContext(recordingPerformance())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "jackson-annotations-2", "jackson-core-2", "jackson-databind-2"));
+    }
+
+    /**
+     * An execution context that records rows in {@link JacksonRecipePerformance}.
+     */
+    static ExecutionContext recordingPerformance() {
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> fail("Failed to run parse sources or recipe", t));
+        ctx.putMessage(JacksonRecipePerformance.ENABLED, true);
+        return ctx;
+    }
+
+    @Test
+    void preconditionSkipped() {
+        rewriteRun(
+          spec -> spec.dataTable(JacksonRecipePerformance.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getSourcePath()).isEqualTo("Other.java");
+                assertThat(row.getRecipe()).isEqualTo(ReplaceObjectMapperCopy.class.getName());
+                assertThat(row.isPreconditionMatched()).isFalse();
+                assertThat(row.getTemplateBuilds()).isZero();
+                assertThat(row.isChanged()).isFalse();
+                assertThat(row.getCycle()).isEqualTo(1);
+            })),
+          //language=java
+          java(
+            """
+              class Other {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void templateBuilds() {
+        rewriteRun(
+          spec -> spec.dataTable(JacksonRecipePerformance.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getSourcePath()).isEqualTo("Test.java");
+                assertThat(row.isPreconditionMatched()).isTrue();
+                assertThat(row.getTemplateBuilds()).isEqualTo(1);
+                assertThat(row.getFollowUpPasses()).isZero();
+                assertThat(row.getVisitTimeNanos()).isPositive();
+                // Either measured, or -1 on a JVM that can't measure allocation per thread
+                assertThat(row.getAllocatedBytes()).isNotZero();
+                assertThat(row.isChanged()).isTrue();
+            })),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.copy();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.rebuild().build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nestedVisitsReportedInRowsOfTheirOwn() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateMapperSettersToBuilder())
+            .dataTable(JacksonRecipePerformance.Row.class, rows -> {
+                assertThat(rows)
+                  .filteredOn(row -> row.getRecipe().equals(MigrateMapperSettersToBuilder.class.getName()))
+                  .singleElement()
+                  .satisfies(row -> {
+                      assertThat(row.getFollowUpPasses()).isPositive();
+                      assertThat(row.isChanged()).isTrue();
+                  });
+                // The configuration recipes run as follow-ups are reported on their own, not as part of the row above
+                assertThat(rows).extracting(JacksonRecipePerformance.Row::getRecipe)
+                  .contains(UpdateSerializationInclusionConfiguration.class.getName(),
+                    UpdateAutoDetectVisibilityConfiguration.class.getName());
+            }),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class A {
+                  JsonMapper create() {
+                      JsonMapper mapper = new JsonMapper();
+                      mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                      return mapper;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class A {
+                  JsonMapper create() {
+                      return JsonMapper.builder()
+                              .disable(SerializationFeature.INDENT_OUTPUT)
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nothingRecordedUnlessEnabled() {
+        rewriteRun(
+          spec -> spec.executionContext(new InMemoryExecutionContext(t -> fail("Failed to run parse sources or recipe", t)))
+            .afterRecipe(run -> assertThat(run.getDataTableRows(JacksonRecipePerformance.class.getName())).isNullOrEmpty()),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.copy();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.rebuild().build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Collections.singletonList;
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateJacksonApiCallsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateJacksonApiCalls(null))
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "jackson-annotations-2",
+            "jackson-core-2",
+            "jackson-databind-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void rewritesOfSeveralRecipesInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import java.io.IOException;
+              import java.net.URL;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.copy();
+                  }
+
+                  boolean binary(JsonGenerator generator) {
+                      return generator.canWriteBinaryNatively();
+                  }
+
+                  Object load(ObjectMapper mapper, URL url) throws IOException {
+                      return mapper.readValue(url, Object.class);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.core.JsonGenerator;
+              import com.fasterxml.jackson.core.StreamWriteCapability;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import java.io.IOException;
+              import java.net.URL;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.rebuild().build();
+                  }
+
+                  boolean binary(JsonGenerator generator) {
+                      return generator.getWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY);
+                  }
+
+                  Object load(ObjectMapper mapper, URL url) throws IOException {
+                      return mapper.readValue(url.openStream(), Object.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void otherOverloadsOfDispatchedMethodsAreKept() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import java.io.File;
+              import java.io.IOException;
+              import java.net.URL;
+
+              class Test {
+                  Object load(ObjectMapper mapper, File file, URL url) throws IOException {
+                      Object fromFile = mapper.readValue(file, Object.class);
+                      return fromFile != null ? fromFile : mapper.readValue(url, Object.class);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import java.io.File;
+              import java.io.IOException;
+              import java.net.URL;
+
+              class Test {
+                  Object load(ObjectMapper mapper, File file, URL url) throws IOException {
+                      Object fromFile = mapper.readValue(file, Object.class);
+                      return fromFile != null ? fromFile : mapper.readValue(url.openStream(), Object.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyTheGivenRewrites() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateJacksonApiCalls(singletonList(ReplaceObjectMapperCopy.class.getName()))),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import java.io.IOException;
+              import java.net.URL;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.copy();
+                  }
+
+                  Object load(ObjectMapper mapper, URL url) throws IOException {
+                      return mapper.readValue(url, Object.class);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import java.io.IOException;
+              import java.net.URL;
+
+              class Test {
+                  ObjectMapper copy(ObjectMapper mapper) {
+                      return mapper.rebuild().build();
+                  }
+
+                  Object load(ObjectMapper mapper, URL url) throws IOException {
+                      return mapper.readValue(url, Object.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
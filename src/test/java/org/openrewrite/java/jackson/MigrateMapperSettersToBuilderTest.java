@@ -18,10 +18,23 @@ package org.openrewrite.java.jackson;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.Issue;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class MigrateMapperSettersToBuilderTest implements RewriteTest {
@@ -29,7 +42,7 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
     @Override
     public void defaults(RecipeSpec spec) {
         spec.recipe(new MigrateMapperSettersToBuilder())
-          .parser(org.openrewrite.java.JavaParser.fromJavaVersion()
+          .parser(JavaParser.fromJavaVersion()
             .classpath("jackson-core", "jackson-databind", "jackson-annotations"));
     }
 
@@ -266,6 +279,172 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
         );
     }
 
+    @Test
+    void followUpPassesScheduledOncePerFile() {
+        rewriteRun(
+          spec -> spec.executionContext(JacksonRecipeMetricsTest.recordingPerformance())
+            .dataTable(JacksonRecipePerformance.Row.class, rows ->
+              assertThat(rows)
+                .filteredOn(row -> row.getRecipe().equals(MigrateMapperSettersToBuilder.class.getName()))
+                .singleElement()
+                // inlineWrappedVariable, removeEmptyInitBlocks, the two configuration recipes, coalesce and fold
+                .satisfies(row -> assertThat(row.getFollowUpPasses()).isEqualTo(6))),
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class A {
+                  JsonMapper first() {
+                      JsonMapper mapper = new JsonMapper();
+                      mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                      return mapper;
+                  }
+
+                  JsonMapper second() {
+                      JsonMapper mapper = new JsonMapper();
+                      mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                      return mapper;
+                  }
+
+                  JsonMapper third() {
+                      JsonMapper mapper = new JsonMapper();
+                      mapper.enable(SerializationFeature.WRAP_ROOT_VALUE);
+                      return mapper;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class A {
+                  JsonMapper first() {
+                      return JsonMapper.builder()
+                              .disable(SerializationFeature.INDENT_OUTPUT)
+                              .build();
+                  }
+
+                  JsonMapper second() {
+                      return JsonMapper.builder()
+                              .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                              .build();
+                  }
+
+                  JsonMapper third() {
+                      return JsonMapper.builder()
+                              .enable(SerializationFeature.WRAP_ROOT_VALUE)
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void parallelVisitsMatchSequentialVisits() throws Exception {
+        // Final locals to unfinalize, setters to fold into the builder and a source file without a mapper
+        String[] shapes = {
+          """
+            import com.fasterxml.jackson.databind.SerializationFeature;
+            import com.fasterxml.jackson.databind.json.JsonMapper;
+
+            class A%d {
+                JsonMapper create() {
+                    final JsonMapper mapper = new JsonMapper();
+                    mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                    System.out.println(mapper);
+                    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                    return mapper;
+                }
+            }
+            """,
+          """
+            import com.fasterxml.jackson.databind.DeserializationFeature;
+            import com.fasterxml.jackson.databind.json.JsonMapper;
+
+            class A%d {
+                JsonMapper create() {
+                    JsonMapper mapper = new JsonMapper();
+                    mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                    return mapper;
+                }
+            }
+            """,
+          """
+            import com.fasterxml.jackson.databind.SerializationFeature;
+            import com.fasterxml.jackson.databind.json.JsonMapper;
+
+            class A%d {
+                private static JsonMapper initObjectMapper() {
+                    return new JsonMapper();
+                }
+
+                private static JsonMapper create() {
+                    final JsonMapper mapper = initObjectMapper();
+                    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                    mapper.disable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
+                    return mapper;
+                }
+            }
+            """,
+          """
+            class A%d {
+                String create() {
+                    return "mapper";
+                }
+            }
+            """
+        };
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            sources.add(shapes[i % shapes.length].formatted(i));
+        }
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        List<SourceFile> parsed = JavaParser.fromJavaVersion()
+          .classpathFromResources(new InMemoryExecutionContext(),
+            "jackson-annotations-2", "jackson-core-2", "jackson-databind-2")
+          .build()
+          .parse(new InMemoryExecutionContext(), sources.toArray(new String[0]))
+          .collect(toList());
+        // Each source file is visited several times, so concurrent visits of the same tree are covered too
+        for (int i = 0; i < 5; i++) {
+            sourceFiles.addAll(parsed);
+        }
+
+        TreeVisitor<?, ExecutionContext> sequentialVisitor = new MigrateMapperSettersToBuilder().getVisitor();
+        ExecutionContext sequentialCtx = new InMemoryExecutionContext();
+        List<String> sequential = sourceFiles.stream()
+          .map(sourceFile -> migrate(sequentialVisitor, sourceFile, sequentialCtx))
+          .collect(toList());
+
+        // One visitor and one execution context, shared by every task
+        TreeVisitor<?, ExecutionContext> visitor = new MigrateMapperSettersToBuilder().getVisitor();
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ForkJoinPool pool = new ForkJoinPool(8);
+        List<String> parallel;
+        try {
+            parallel = pool.submit(() -> sourceFiles.parallelStream()
+              .map(sourceFile -> migrate(visitor, sourceFile, ctx))
+              .collect(toList())).get();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(sequential.get(0)).contains("JsonMapper mapper = JsonMapper.builder()");
+        assertThat(sequential.get(2)).contains("initObjectMapper().rebuild()");
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    private static String migrate(TreeVisitor<?, ExecutionContext> visitor, SourceFile sourceFile, ExecutionContext ctx) {
+        Tree after = visitor.visit(sourceFile, ctx);
+        assertThat(after).isNotNull();
+        return ((SourceFile) after).printAll();
+    }
+
     @Nested
     class BuilderMigration {
 
@@ -305,6 +484,76 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
             );
         }
 
+        @Test
+        void sameSetterShapeAcrossSourceFiles() {
+            rewriteRun(
+              java(
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper create() {
+                          JsonMapper mapper = new JsonMapper();
+                          mapper.disable(SerializationFeature.INDENT_OUTPUT);
+                          return mapper;
+                      }
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class A {
+                      JsonMapper create() {
+                          return JsonMapper.builder()
+                                  .disable(SerializationFeature.INDENT_OUTPUT)
+                                  .build();
+                      }
+                  }
+                  """
+              ),
+              java(
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class B {
+                      JsonMapper create() {
+                          JsonMapper mapper = new JsonMapper();
+                          mapper.disable(SerializationFeature.WRAP_ROOT_VALUE);
+                          return mapper;
+                      }
+
+                      JsonMapper other() {
+                          JsonMapper mapper = new JsonMapper();
+                          mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+                          return mapper;
+                      }
+                  }
+                  """,
+                """
+                  import com.fasterxml.jackson.databind.SerializationFeature;
+                  import com.fasterxml.jackson.databind.json.JsonMapper;
+
+                  class B {
+                      JsonMapper create() {
+                          return JsonMapper.builder()
+                                  .disable(SerializationFeature.WRAP_ROOT_VALUE)
+                                  .build();
+                      }
+
+                      JsonMapper other() {
+                          return JsonMapper.builder()
+                                  .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                                  .build();
+                      }
+                  }
+                  """
+              )
+            );
+        }
+
         @Test
         void registerModuleRenamedToAddModule() {
             rewriteRun(
@@ -1526,7 +1775,7 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
         @Test
         void yamlMapperSettersMigratedToBuilder() {
             rewriteRun(
-              spec -> spec.parser(org.openrewrite.java.JavaParser.fromJavaVersion()
+              spec -> spec.parser(JavaParser.fromJavaVersion()
                 .classpath("jackson-core", "jackson-databind")
                 .dependsOn(YAML_MAPPER_STUB)),
               java(
@@ -1561,7 +1810,7 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
         @Test
         void yamlMapperFluentChain() {
             rewriteRun(
-              spec -> spec.parser(org.openrewrite.java.JavaParser.fromJavaVersion()
+              spec -> spec.parser(JavaParser.fromJavaVersion()
                 .classpath("jackson-core", "jackson-databind")
                 .dependsOn(YAML_MAPPER_STUB)),
               java(
@@ -1595,7 +1844,7 @@ class MigrateMapperSettersToBuilderTest implements RewriteTest {
         @Test
         void xmlMapperSettersMigratedToBuilder() {
             rewriteRun(
-              spec -> spec.parser(org.openrewrite.java.JavaParser.fromJavaVersion()
+              spec -> spec.parser(JavaParser.fromJavaVersion()
                 .classpath("jackson-core", "jackson-databind")
                 .dependsOn("""
                     package com.fasterxml.jackson.dataformat.xml;
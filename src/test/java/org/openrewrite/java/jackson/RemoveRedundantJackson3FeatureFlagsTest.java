@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class RemoveRedundantJackson3FeatureFlagsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RemoveRedundantJackson3FeatureFlags())
+          .parser(JavaParser.fromJavaVersion().classpath(
+            "jackson-annotations", "jackson-core", "jackson-databind"));
+    }
+
+    @DocumentExample
+    @Test
+    void removeSeveralFeaturesInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.MapperFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+                      mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                      mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.enable(SerializationFeature.INDENT_OUTPUT);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removeSeveralFeaturesFromChain() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.MapperFeature;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  void configure() {
+                      JsonMapper.builder()
+                          .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                          .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+                          .build();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  void configure() {
+                      JsonMapper.builder()
+                          .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepNonDefaultValues() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.MapperFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  void configure() {
+                      ObjectMapper mapper = new ObjectMapper();
+                      mapper.disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+                      mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removeSeveralProperties() {
+        rewriteRun(
+          properties(
+            """
+              spring.jackson.mapper.SORT_PROPERTIES_ALPHABETICALLY=true
+              spring.jackson.mapper.FAIL_ON_UNKNOWN_PROPERTIES=true
+              spring.jackson.mapper.WRITE_DATES_AS_TIMESTAMPS=false
+              spring.jackson.mapper.DEFAULT_VIEW_INCLUSION=false
+              """,
+            """
+              spring.jackson.mapper.FAIL_ON_UNKNOWN_PROPERTIES=true
+              """
+          )
+        );
+    }
+
+    @Test
+    void removeSeveralYamlProperties() {
+        rewriteRun(
+          yaml(
+            """
+              spring:
+                jackson:
+                    mapper:
+                        SORT_PROPERTIES_ALPHABETICALLY: true
+                        FAIL_ON_UNKNOWN_PROPERTIES: true
+                        WRITE_DATES_AS_TIMESTAMPS: false
+              """,
+            """
+              spring:
+                jackson:
+                    mapper:
+                        FAIL_ON_UNKNOWN_PROPERTIES: true
+              """
+          )
+        );
+    }
+}
@@ -119,6 +119,69 @@ class ReplaceObjectMapperCopyTest implements RewriteTest {
         );
     }
 
+    @Test
+    void writerForPerCallSerializationFeatures() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  String toJson(ObjectMapper mapper, Object value) throws Exception {
+                      return mapper.copy()
+                              .configure(SerializationFeature.INDENT_OUTPUT, true)
+                              .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                              .writeValueAsString(value);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+
+              class Test {
+                  String toJson(ObjectMapper mapper, Object value) throws Exception {
+                      return mapper.writer().with(SerializationFeature.INDENT_OUTPUT).without(SerializationFeature.FAIL_ON_EMPTY_BEANS).writeValueAsString(value);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void readerForPerCallDeserializationFeatures() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  String parse(ObjectMapper mapper, String json) throws Exception {
+                      String value = mapper.copy().enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS).readValue(json, String.class);
+                      return value;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class Test {
+                  String parse(ObjectMapper mapper, String json) throws Exception {
+                      String value = mapper.readerFor(String.class).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS).readValue(json);
+                      return value;
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void noChangeForNewObjectMapper() {
         rewriteRun(
@@ -26,7 +26,8 @@ import static org.openrewrite.java.Assertions.java;
 
 /**
  * Tests for gap: {@code TypeFactory.defaultInstance()} was removed in Jackson 3.
- * It should be migrated to {@code TypeFactory.createDefaultInstance()}.
+ * Its replacement {@code TypeFactory.createDefaultInstance()} creates a new factory on every call, so
+ * calls are routed to a mapper's type factory or a shared static field instead.
  *
  * @see <a href="https://github.com/moderneinc/customer-requests/issues/1963">customer-requests#1963</a>
  */
@@ -43,7 +44,7 @@ class TypeFactoryDefaultInstanceTest implements RewriteTest {
 
     @DocumentExample
     @Test
-    void typeFactoryDefaultInstanceRenamed() {
+    void typeFactoryDefaultInstanceSharedInStaticField() {
         rewriteRun(
           //language=java
           java(
@@ -62,10 +63,164 @@ class TypeFactoryDefaultInstanceTest implements RewriteTest {
               import tools.jackson.databind.type.TypeFactory;
 
               class Test {
+                  private static final TypeFactory TYPE_FACTORY = TypeFactory.createDefaultInstance();
                   JavaType getType() {
+                      return TYPE_FACTORY.constructType(String.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void useTypeFactoryOfMapperInScope() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JavaType;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.type.TypeFactory;
+
+              import java.util.List;
+
+              class Test {
+                  JavaType listOf(ObjectMapper mapper, Class<?> elementType) {
+                      return TypeFactory.defaultInstance().constructCollectionType(List.class, elementType);
+                  }
+              }
+              """,
+            """
+              import tools.jackson.databind.JavaType;
+              import tools.jackson.databind.ObjectMapper;
+
+              import java.util.List;
+
+              class Test {
+                  JavaType listOf(ObjectMapper mapper, Class<?> elementType) {
+                      return mapper.getTypeFactory().constructCollectionType(List.class, elementType);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipMapperReassignedAfterLambda() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JavaType;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.type.TypeFactory;
+
+              import java.util.function.Supplier;
+
+              class Test {
+                  Supplier<JavaType> stringType() {
+                      ObjectMapper mapper = mapper();
+                      Supplier<JavaType> type = () -> TypeFactory.defaultInstance().constructType(String.class);
+                      mapper = mapper();
+                      return type;
+                  }
+
+                  ObjectMapper mapper() {
+                      return null;
+                  }
+              }
+              """,
+            """
+              import tools.jackson.databind.JavaType;
+              import tools.jackson.databind.ObjectMapper;
+              import tools.jackson.databind.type.TypeFactory;
+
+              import java.util.function.Supplier;
+
+              class Test {
+                  private static final TypeFactory TYPE_FACTORY = TypeFactory.createDefaultInstance();
+                  Supplier<JavaType> stringType() {
+                      ObjectMapper mapper = mapper();
+                      Supplier<JavaType> type = () -> TYPE_FACTORY.constructType(String.class);
+                      mapper = mapper();
+                      return type;
+                  }
+
+                  ObjectMapper mapper() {
+                      return null;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renameInFieldInitializer() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.type.TypeFactory;
+
+              class Test {
+                  private final TypeFactory typeFactory = TypeFactory.defaultInstance();
+              }
+              """,
+            """
+              import tools.jackson.databind.type.TypeFactory;
+
+              class Test {
+                  private final TypeFactory typeFactory = TypeFactory.createDefaultInstance();
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renameUnroutedCallsWithoutFollowUpPass() {
+        rewriteRun(
+          spec -> spec.recipe(new ReplaceTypeFactoryDefaultInstance()),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.databind.JavaType;
+              import com.fasterxml.jackson.databind.type.TypeFactory;
+
+              import java.util.function.Supplier;
+
+              interface Types {
+                  default JavaType stringType() {
+                      return TypeFactory.defaultInstance().constructType(String.class);
+                  }
+              }
+
+              class Factories {
+                  Supplier<TypeFactory> supplier() {
+                      return TypeFactory::defaultInstance;
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.JavaType;
+              import com.fasterxml.jackson.databind.type.TypeFactory;
+
+              import java.util.function.Supplier;
+
+              interface Types {
+                  default JavaType stringType() {
                       return TypeFactory.createDefaultInstance().constructType(String.class);
                   }
               }
+
+              class Factories {
+                  Supplier<TypeFactory> supplier() {
+                      return TypeFactory::createDefaultInstance;
+                  }
+              }
               """
           )
         );
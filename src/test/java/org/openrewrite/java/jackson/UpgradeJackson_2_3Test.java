@@ -20,6 +20,7 @@ import org.openrewrite.DocumentExample;
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.Issue;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.jackson.table.JacksonRecipePerformance;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
@@ -402,6 +403,58 @@ class UpgradeJackson_2_3Test implements RewriteTest {
         );
     }
 
+    @Test
+    void convergesInASingleCycle() {
+        rewriteRun(
+          // A third cycle would only run if the second one still made changes
+          spec -> spec.cycles(3).expectedCyclesThatMakeChanges(1)
+            .executionContext(JacksonRecipeMetricsTest.recordingPerformance())
+            .dataTable(JacksonRecipePerformance.Row.class, rows ->
+              assertThat(rows)
+                .isNotEmpty()
+                .allSatisfy(row -> assertThat(row.getCycle()).isEqualTo(1))),
+          //language=java
+          java(
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import com.fasterxml.jackson.databind.DeserializationFeature;
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.SerializationFeature;
+              import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+              import java.util.TimeZone;
+
+              class Test {
+                  ObjectMapper objectMapper() {
+                      return new ObjectMapper()
+                              .registerModule(new JavaTimeModule())
+                              .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                              .setTimeZone(TimeZone.getDefault())
+                              .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.annotation.JsonInclude;
+              import tools.jackson.databind.ObjectMapper;
+              import tools.jackson.databind.json.JsonMapper;
+
+              import java.util.TimeZone;
+
+              class Test {
+                  ObjectMapper objectMapper() {
+                      return JsonMapper.builder()
+                              .defaultTimeZone(TimeZone.getDefault())
+                              .changeDefaultPropertyInclusion(incl -> incl.withContentInclusion(JsonInclude.Include.NON_NULL).withValueInclusion(JsonInclude.Include.NON_NULL))
+                              .build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Issue("https://github.com/moderneinc/customer-requests/issues/1995")
     @Test
     void multiCatchWithRuntimeExceptionAndIOExceptionDoesNotCrash() {
@@ -433,7 +486,7 @@ class UpgradeJackson_2_3Test implements RewriteTest {
 
               class Test {
                   void readAndDeserialize() {
-                      ObjectMapper mapper = new JsonMapper();
+                      ObjectMapper mapper = JsonMapper.shared();
                       try {
                           byte[] data = new FileInputStream("data.json").readAllBytes();
                           mapper.readValue(data, String.class);
@@ -108,4 +108,52 @@ class UseFormatAlignedObjectMappersTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void severalMappersAcrossFiles() {
+        rewriteRun(
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+
+              class A {
+                  ObjectMapper json = new ObjectMapper();
+                  ObjectMapper xml = new ObjectMapper(new XmlFactory());
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+              import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+              class A {
+                  ObjectMapper json = new JsonMapper();
+                  ObjectMapper xml = new XmlMapper();
+              }
+              """
+          ),
+          java(
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+
+              class B {
+                  ObjectMapper create() {
+                      return new ObjectMapper();
+                  }
+              }
+              """,
+            """
+              import com.fasterxml.jackson.databind.ObjectMapper;
+              import com.fasterxml.jackson.databind.json.JsonMapper;
+
+              class B {
+                  ObjectMapper create() {
+                      return new JsonMapper();
+                  }
+              }
+              """
+          )
+        );
+    }
 }
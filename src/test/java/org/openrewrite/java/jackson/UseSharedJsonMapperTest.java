@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseSharedJsonMapperTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseSharedJsonMapper())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "jackson-annotations-2", "jackson-core-3", "jackson-databind-3"));
+    }
+
+    @DocumentExample
+    @Test
+    void unconfiguredMappers() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import tools.jackson.databind.ObjectMapper;
+              import tools.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  private final ObjectMapper mapper = new JsonMapper();
+
+                  JsonMapper create() {
+                      return JsonMapper.builder().build();
+                  }
+              }
+              """,
+            """
+              import tools.jackson.databind.ObjectMapper;
+              import tools.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  private final ObjectMapper mapper = JsonMapper.shared();
+
+                  JsonMapper create() {
+                      return JsonMapper.shared();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepConfiguredMappers() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import tools.jackson.databind.SerializationFeature;
+              import tools.jackson.databind.json.JsonMapper;
+
+              class Test {
+                  JsonMapper create() {
+                      return JsonMapper.builder()
+                              .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                              .build();
+                  }
+
+                  JsonMapper subclass() {
+                      return new JsonMapper() {
+                      };
+                  }
+
+                  JsonMapper rebuilt(JsonMapper mapper) {
+                      return mapper.rebuild().build();
+                  }
+              }
+              """
+          )
+        );
+    }
+}